@@ -0,0 +1,313 @@
+package challenges;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many queries over the same list in a single pass.
+ *
+ * Queries are registered first, each returning a {@link Result} that is filled in
+ * by {@link #run(List)} or {@link #runParallel(List)}. Every element is read once
+ * and handed to each query still interested in it. Short-circuiting queries
+ * (anyMatch, allMatch, noneMatch, findFirst) drop out as soon as their answer is
+ * known, and the scan stops early once every query has dropped out.
+ *
+ * <pre>
+ * BatchScan&lt;Car&gt; batch = new BatchScan&lt;&gt;();
+ * Result&lt;Map&lt;String, Long&gt;&gt; byMake = batch.collect(groupingBy(Car::getMake, counting()));
+ * Result&lt;Boolean&gt; anyBlue = batch.anyMatch(car -&gt; car.getColor().equalsIgnoreCase("blue"));
+ * batch.run(cars);
+ * </pre>
+ */
+public class BatchScan<T> {
+
+    private final List<Query<T, ?, ?>> queries = new ArrayList<>();
+
+    public static final class Result<R> {
+        private R value;
+        private boolean done;
+
+        public R get() {
+            if (!done) {
+                throw new IllegalStateException("BatchScan has not been run yet");
+            }
+            return value;
+        }
+
+        void set(R value) {
+            this.value = value;
+            this.done = true;
+        }
+    }
+
+    // Any stream Collector: filters (Collectors.filtering), group-bys, aggregates, joins...
+    public <R> Result<R> collect(Collector<? super T, ?, R> collector) {
+        return register(collectorQuery(collector));
+    }
+
+    public Result<Long> count(Predicate<? super T> predicate) {
+        return collect(Collectors.filtering(predicate, Collectors.counting()));
+    }
+
+    // The k greatest elements by comparator, greatest first.
+    public Result<List<T>> topK(int k, Comparator<? super T> comparator) {
+        Collector<T, PriorityQueue<T>, List<T>> topK = Collector.of(
+                () -> new PriorityQueue<>(comparator),
+                (heap, item) -> offerBounded(heap, item, k),
+                (left, right) -> {
+                    right.forEach(item -> offerBounded(left, item, k));
+                    return left;
+                },
+                heap -> {
+                    List<T> top = new ArrayList<>(heap);
+                    top.sort(comparator.reversed());
+                    return top;
+                });
+        return collect(topK);
+    }
+
+    public Result<Boolean> anyMatch(Predicate<? super T> predicate) {
+        return register(new MatchQuery<>(predicate, true));
+    }
+
+    public Result<Boolean> allMatch(Predicate<? super T> predicate) {
+        return register(new MatchQuery<>(predicate.negate(), false));
+    }
+
+    public Result<Boolean> noneMatch(Predicate<? super T> predicate) {
+        return register(new MatchQuery<>(predicate, false));
+    }
+
+    public Result<Optional<T>> findFirst(Predicate<? super T> predicate) {
+        return register(new FindFirstQuery<>(predicate));
+    }
+
+    public void run(List<? extends T> items) {
+        queries.forEach(Query::reset);
+        finish(Collections.singletonList(scan(items, 0, items.size())));
+    }
+
+    // Splits the list into one contiguous chunk per core and merges the chunks in order.
+    public void runParallel(List<? extends T> items) {
+        runParallel(items, Math.min(ForkJoinPool.getCommonPoolParallelism(), items.size() / 1024));
+    }
+
+    // As runParallel(items), with an explicit number of chunks.
+    public void runParallel(List<? extends T> items, int chunkCount) {
+        int chunks = Math.max(1, Math.min(chunkCount, items.size()));
+        int chunkSize = (items.size() + chunks - 1) / chunks;
+        queries.forEach(Query::reset);
+        List<Object[]> states = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> scan(items, c * chunkSize, Math.min(items.size(), (c + 1) * chunkSize)))
+                .toList();
+        finish(states);
+    }
+
+    private static <T, A, R> Query<T, A, R> collectorQuery(Collector<? super T, A, R> collector) {
+        return new CollectorQuery<>(collector);
+    }
+
+    private static <T> void offerBounded(PriorityQueue<T> heap, T item, int k) {
+        heap.offer(item);
+        if (heap.size() > k) {
+            heap.poll();
+        }
+    }
+
+    private <R> Result<R> register(Query<T, ?, R> query) {
+        queries.add(query);
+        return query.result;
+    }
+
+    private Object[] scan(List<? extends T> items, int from, int to) {
+        int size = queries.size();
+        Object[] states = new Object[size];
+        int[] live = new int[size];
+        int liveCount = 0;
+        for (int q = 0; q < size; q++) {
+            states[q] = queries.get(q).newState();
+            if (!isDone(queries.get(q), states[q])) {
+                live[liveCount++] = q;
+            }
+        }
+        for (int i = from; i < to && liveCount > 0; i++) {
+            T item = items.get(i);
+            for (int l = 0; l < liveCount; ) {
+                int q = live[l];
+                if (accept(queries.get(q), states[q], item)) {
+                    live[l] = live[--liveCount];
+                } else {
+                    l++;
+                }
+            }
+        }
+        return states;
+    }
+
+    private void finish(List<Object[]> chunkStates) {
+        for (int q = 0; q < queries.size(); q++) {
+            List<Object> states = new ArrayList<>(chunkStates.size());
+            for (Object[] chunk : chunkStates) {
+                states.add(chunk[q]);
+            }
+            complete(queries.get(q), states);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> boolean accept(Query<T, S, ?> query, Object state, T item) {
+        return query.accept((S) state, item);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> boolean isDone(Query<T, S, ?> query, Object state) {
+        return query.isDone((S) state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S, R> void complete(Query<T, S, R> query, List<Object> states) {
+        query.result.set(query.finish((List<S>) states));
+    }
+
+    /**
+     * A query with one mutable state per scanned chunk; states are finished in encounter order.
+     */
+    private abstract static class Query<T, S, R> {
+        final Result<R> result = new Result<>();
+
+        // Called once per run, before any chunk state is created.
+        void reset() {
+        }
+
+        abstract S newState();
+
+        // Returns true once the query needs no more elements.
+        abstract boolean accept(S state, T item);
+
+        boolean isDone(S state) {
+            return false;
+        }
+
+        abstract R finish(List<S> states);
+    }
+
+    private static final class CollectorQuery<T, A, R> extends Query<T, A, R> {
+        private final Collector<? super T, A, R> collector;
+        private final BiConsumer<A, ? super T> accumulator;
+
+        CollectorQuery(Collector<? super T, A, R> collector) {
+            this.collector = collector;
+            this.accumulator = collector.accumulator();
+        }
+
+        @Override
+        A newState() {
+            return collector.supplier().get();
+        }
+
+        @Override
+        boolean accept(A state, T item) {
+            accumulator.accept(state, item);
+            return false;
+        }
+
+        @Override
+        R finish(List<A> states) {
+            BinaryOperator<A> combiner = collector.combiner();
+            A merged = states.get(0);
+            for (int i = 1; i < states.size(); i++) {
+                merged = combiner.apply(merged, states.get(i));
+            }
+            return collector.finisher().apply(merged);
+        }
+    }
+
+    // anyMatch(p) is "found p", noneMatch(p) is "not found p", allMatch(p) is "not found !p".
+    private static final class MatchQuery<T> extends Query<T, AtomicBoolean, Boolean> {
+        private final Predicate<? super T> predicate;
+        private final boolean foundMeans;
+        private final AtomicBoolean found = new AtomicBoolean();
+
+        MatchQuery(Predicate<? super T> predicate, boolean foundMeans) {
+            this.predicate = predicate;
+            this.foundMeans = foundMeans;
+        }
+
+        @Override
+        void reset() {
+            found.set(false);
+        }
+
+        // All chunks share one flag, so a match in any chunk stops the others.
+        @Override
+        AtomicBoolean newState() {
+            return found;
+        }
+
+        @Override
+        boolean isDone(AtomicBoolean state) {
+            return state.get();
+        }
+
+        @Override
+        boolean accept(AtomicBoolean state, T item) {
+            if (state.get()) {
+                return true; // another chunk already decided
+            }
+            if (predicate.test(item)) {
+                state.set(true);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Boolean finish(List<AtomicBoolean> states) {
+            return found.get() == foundMeans;
+        }
+    }
+
+    private static final class FindFirstQuery<T> extends Query<T, FindFirstQuery.First<T>, Optional<T>> {
+        private final Predicate<? super T> predicate;
+
+        static final class First<T> {
+            T value;
+            boolean present;
+        }
+
+        FindFirstQuery(Predicate<? super T> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        First<T> newState() {
+            return new First<>();
+        }
+
+        @Override
+        boolean accept(First<T> state, T item) {
+            if (predicate.test(item)) {
+                state.value = item;
+                state.present = true;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Optional<T> finish(List<First<T>> states) {
+            return states.stream()
+                    .filter(first -> first.present)
+                    .findFirst()
+                    .map(first -> first.value);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package challenges;
 
 import domain.Car;
+import kernels.CarColumns;
+import kernels.ColumnKernels;
+import view.CarBuffer;
+import view.CarView;
+import view.RecordBuffer;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class CarOps {
 
@@ -17,6 +23,15 @@ public class CarOps {
                 .collect(Collectors.toList());
     }
 
+    public static List<Car> carWithSpecificMake(CarBuffer cars){
+        byte[] make = RecordBuffer.utf8("Ford");
+        CarView view = cars.view();
+        return IntStream.range(0, cars.size())
+                .filter(i -> view.moveTo(i).isMakeIgnoreCase(make))
+                .mapToObj(cars::materialize)
+                .collect(Collectors.toList());
+    }
+
 //   22: Filter by Year: Filter the list of cars to only include cars from a specific year.
     public static List<Car> carWithSpecificYear(List<Car> cars){
         return cars.stream()
@@ -31,6 +46,10 @@ public class CarOps {
                 .collect(Collectors.toList());
     }
 
+    public static List<Car> carWithSpecificPriceRange(CarColumns cars){
+        return cars.select(ColumnKernels.get().rangeToBitmap(cars.prices(), 10000, 20000));
+    }
+
     //24:Map to Model Names: Create a list of car model names from the list of cars.
     public static List<String> carModelNames(List<Car> cars){
         return cars.stream()
@@ -93,6 +112,10 @@ public class CarOps {
         return avg.orElse(0.0);
     }
 
+    public static double averagePriceOfCars(CarColumns cars){
+        return cars.size() == 0 ? 0.0 : ColumnKernels.get().sum(cars.prices()) / cars.size();
+    }
+
     //33. Sum of Prices: Calculate the sum of all car prices.
     public static double sumOfPriceOfCars(List<Car> cars){
          return cars.stream()
@@ -100,16 +123,33 @@ public class CarOps {
                  .reduce(0, Double::sum);
 
     }
+
+    public static double sumOfPriceOfCars(CarColumns cars){
+        return ColumnKernels.get().sum(cars.prices());
+    }
+
     //34. Any Car with Blue Color: Check if there's any car with a blue color.
     public static boolean carsWithBlueColor(List<Car> cars){
        return cars.stream()
                 .anyMatch(car -> car.getColor().equalsIgnoreCase("blue"));
     }
 
+    public static boolean carsWithBlueColor(CarBuffer cars){
+        byte[] blue = RecordBuffer.utf8("blue");
+        CarView view = cars.view();
+        return IntStream.range(0, cars.size())
+                .anyMatch(i -> view.moveTo(i).isColorIgnoreCase(blue));
+    }
+
     //35. All Cars are Expensive: Check if all cars are expensive (e.g., price > 50000).
     public static boolean isAllCarExpensive(List<Car> cars) {
         return cars.stream()
-                .anyMatch(car -> car.getPrice() > 50000);
+                .allMatch(car -> car.getPrice() > 50000);
+    }
+
+    // Same answer as the list version, stopping at the first car priced at 50000 or less.
+    public static boolean isAllCarExpensive(CarColumns cars) {
+        return ColumnKernels.get().allAbove(cars.prices(), 50000);
     }
 
     //36. None Match the Condition: Check if none of the cars match a specific condition.
@@ -232,4 +272,16 @@ public class CarOps {
         return List.of();
     }
 
+    //Price Statistics: count, mean, variance, min and max of car prices in a single pass.
+    public static RunningStats priceStats(List<Car> cars) {
+        return cars.stream()
+                .collect(RunningStats.collector(Car::getPrice));
+    }
+
+    //Year Statistics: count, mean, variance, min and max of car years in a single pass.
+    public static RunningStats yearStats(List<Car> cars) {
+        return cars.stream()
+                .collect(RunningStats.collector(Car::getYear));
+    }
+
 }
@@ -0,0 +1,122 @@
+package challenges;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * One-pass accumulator for count, mean, variance, min and max.
+ *
+ * Values are folded in with Welford's update, and two accumulators are merged
+ * with Chan's parallel formula, so partial results from threads, shards or
+ * streaming windows can be combined without revisiting the data.
+ *
+ * An empty accumulator reports 0.0 for every statistic (mean, sum, variance,
+ * min and max alike); use {@link #isEmpty()} to tell that apart from real zeros.
+ */
+public class RunningStats implements DoubleConsumer {
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double sum;
+    // Only meaningful once count > 0.
+    private double min;
+    private double max;
+
+    public static <T> Collector<T, RunningStats, RunningStats> collector(ToDoubleFunction<? super T> mapper) {
+        return Collector.of(
+                RunningStats::new,
+                (stats, t) -> stats.accept(mapper.applyAsDouble(t)),
+                RunningStats::combine,
+                Collector.Characteristics.IDENTITY_FINISH,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    @Override
+    public void accept(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        sum += value;
+        min = count == 1 ? value : Math.min(min, value);
+        max = count == 1 ? value : Math.max(max, value);
+    }
+
+    public RunningStats combine(RunningStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            sum = other.sum;
+            min = other.min;
+            max = other.max;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public RunningStats copy() {
+        return new RunningStats().combine(this);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double getMean() {
+        return count > 0 ? mean : 0.0;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    // Population variance, matching the original stdDev challenge.
+    public double getVariance() {
+        return count > 0 ? m2 / count : 0.0;
+    }
+
+    public double getSampleVariance() {
+        return count > 1 ? m2 / (count - 1) : 0.0;
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return count > 0 ? min : 0.0;
+    }
+
+    public double getMax() {
+        return count > 0 ? max : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "RunningStats{" +
+                "count=" + count +
+                ", mean=" + getMean() +
+                ", stdDev=" + getStdDev() +
+                ", min=" + getMin() +
+                ", max=" + getMax() +
+                '}';
+    }
+}
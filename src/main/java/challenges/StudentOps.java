@@ -1,11 +1,16 @@
 package challenges;
 
 import domain.Student;
+import index.DobIndex;
+import view.RecordBuffer;
+import view.StudentBuffer;
+import view.StudentView;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.counting;
 
@@ -18,14 +23,18 @@ public class StudentOps {
                 .toList();
     }
 
+    // Same filter over a flyweight buffer: genders are compared as raw bytes, and only matches are materialized.
+    public static List<Student> filterStudentsByGender(StudentBuffer students, String gender) {
+        byte[] wanted = RecordBuffer.utf8(gender);
+        StudentView view = students.view();
+        return IntStream.range(0, students.size())
+                .filter(i -> view.moveTo(i).isGenderIgnoreCase(wanted))
+                .mapToObj(students::materialize)
+                .toList();
+    }
+
     //2. Sort Students by Age: Sort the list of students by their age (based on date of birth).
     public static List<Student> sortStudentsByAge(List<Student> students) {
-        LocalDate currentDate = LocalDate.now();
-        students.forEach(student -> {
-            LocalDate dob = student.getDob();
-            Period period = Period.between(dob, currentDate);
-            student.setAge(period.getYears());
-        });
         return students.stream()
                 .sorted(Comparator.comparing(Student::getAge))
                 .toList();
@@ -34,11 +43,7 @@ public class StudentOps {
     //3. Calculate Average Age: Calculate and return the average age of students in the list.
     public static double averageAge(List<Student> students) {
 
-        return students.stream()
-                .map(Student::getDob)
-                .mapToDouble(LocalDate::getYear)
-                .average()
-                .orElse(0.0);
+        return ageStats(students).getMean();
     }
 
     //4: Print Student Names: Print the full names of all students in the list.
@@ -55,6 +60,11 @@ public class StudentOps {
     }
 
     //GET AGE
+    /**
+     * @deprecated {@link Student#getAge()} is derived from the date of birth, so there is
+     * nothing to precompute, and mutating shared students is unsafe under concurrent queries.
+     */
+    @Deprecated
     public static void calculateAge(List<Student> students) {
         LocalDate currentDate = LocalDate.now();
         students.forEach(student -> {
@@ -68,7 +78,6 @@ public class StudentOps {
         //6:Find Maximum Age: Find the maximum age among all students.
     public static Optional<Student> maxAge (List < Student > students) {
 
-        calculateAge(students);
         return students.stream()
                 .max(Comparator.comparing(Student::getAge));
     }
@@ -88,14 +97,27 @@ public class StudentOps {
              .toList();
     }
 
+    // Same listing over a flyweight buffer: only the email strings are allocated.
+    public static List<String> listEmails(StudentBuffer students) {
+        StudentView view = students.view();
+        return IntStream.range(0, students.size())
+                .mapToObj(view::moveTo)
+                .filter(StudentView::hasEmail)
+                .map(StudentView::getEmail)
+                .toList();
+    }
+
     //9:Check if Any Student is Adult: Check if any student is an adult (age 18 or older)
     public static List<Student> adultList(List<Student> students) {
-        calculateAge(students);
         return students.stream()
                 .filter(student -> student.getAge() >= 18)
                 .toList();
     }
 
+    public static List<Student> adultList(DobIndex students) {
+        return students.adults(LocalDate.now());
+    }
+
 //    10:Count Students by Gender: Count the number of students for each gender.
     public static Map<String, Long> countStudents(List<Student> students) {
         return students.stream()
@@ -104,13 +126,15 @@ public class StudentOps {
 
 //    11:Find Youngest Female Student: Find the youngest female student.
     public static Optional<Student> youngestFemale(List<Student> students) {
-        calculateAge(students);
-
     return    students.stream()
                 .filter(student -> Objects.equals(student.getGender(), "Female"))
                 .min(Comparator.comparing(Student::getAge));
     }
 
+    public static Optional<Student> youngestFemale(DobIndex students) {
+        return students.forGender("Female").youngest();
+    }
+
 //    12:Join Student Names: Join the first names of all students into a single string.
     public static String firstNames(List<Student> students){
         return students.stream()
@@ -120,8 +144,6 @@ public class StudentOps {
 
 //    13:Calculate Age Sum: Calculate the sum of ages for all students.
     public static Integer ageSum(List<Student> students) {
-        calculateAge(students);
-
         return students.stream()
                 .mapToInt(Student::getAge)
                 .sum();
@@ -129,12 +151,14 @@ public class StudentOps {
 
 //    14:Check if All Students are Adults: Check if all students are adults (age 18 or older).
     public static Boolean allAdult(List<Student> students){
-        calculateAge(students);
-
         return students.stream()
                 .allMatch(student -> student.getAge() >= 18);
     }
 
+    public static Boolean allAdult(DobIndex students) {
+        return students.allAdult(LocalDate.now());
+    }
+
 //    15:Find Oldest Student: Find the oldest student.
     public static void oldestStudent(List<Student> students) {
          students.stream()
@@ -165,34 +189,29 @@ public class StudentOps {
         return students.stream()
                 .collect(Collectors.groupingBy((Student::getAge), counting()));
     }
+
+    public static Map<Integer, Long> computeAgeDistribution(DobIndex students) {
+        return students.ageDistribution(LocalDate.now());
+    }
 //    19:Group Students by Age: Group the students by their age.
     public static Map<Integer, List<Student>> groupByAge(List<Student> students) {
         return students.stream()
                 .collect(Collectors.groupingBy(Student::getAge));
     }
 
+    public static Map<Integer, List<Student>> groupByAge(DobIndex students) {
+        return students.groupByAge(LocalDate.now());
+    }
+
 //    20: Calculate Age Standard Deviation: Calculate the standard deviation of ages for all students.
     public static double stdDev(List<Student> students) {
-        double mean = students.stream()
-                .mapToInt(Student::getAge)
-                .average()
-                .orElse(0.0);
-
-        double variance = students.stream()
-                .mapToDouble(student -> Math.pow(student.getAge() - mean, 2))
-                .average()
-                .orElse(0.0);
-
-        return Math.sqrt(variance);
+        return ageStats(students).getStdDev();
     }
 
-
-
-
-
-
-
-
-
-
+    //Age Statistics: count, mean, variance, min and max of ages in a single pass, without touching the students.
+    public static RunningStats ageStats(List<Student> students) {
+        LocalDate currentDate = LocalDate.now();
+        return students.stream()
+                .collect(RunningStats.collector(student -> Period.between(student.getDob(), currentDate).getYears()));
+    }
 }
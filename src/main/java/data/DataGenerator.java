@@ -0,0 +1,327 @@
+package data;
+
+import domain.Car;
+import domain.Student;
+import view.CarBuffer;
+import view.RecordBuffer;
+import view.StudentBuffer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic generator of large car and student datasets for load testing.
+ *
+ * Values are drawn from the vocabulary of the bundled cars.json and students.json
+ * (makes with their models, colors, names, email domains), so output looks like
+ * the real data and parses with {@link FetchData}. Every row is generated from its
+ * own seed derived from the config seed and the row number, so a range of rows is
+ * identical whether it is written alone (e.g. as one shard) or as part of a full file.
+ *
+ * Usage: {@code DataGenerator <cars|students> <rows> <json|ndjson|binary> <output> [seed] [firstRow]}
+ */
+public class DataGenerator {
+
+    public enum Format {
+        // A JSON array, as read by FetchData.
+        JSON,
+        // One JSON object per line.
+        NDJSON,
+        // The record buffer format read by CarBuffer.map / StudentBuffer.map.
+        BINARY
+    }
+
+    /**
+     * Value distributions. Defaults follow the bundled datasets.
+     */
+    public static class Config {
+        private long seed = 42;
+        private double makeSkew = 1.1;
+        private double priceMedian = 60_000;
+        private double priceSpread = 0.8;
+        private double minPrice = 1_000;
+        private double maxPrice = 1_000_000;
+        private int minYear = 1960;
+        private int maxYear = 2023;
+        private LocalDate minDob = LocalDate.of(1950, 1, 1);
+        private LocalDate maxDob = LocalDate.of(2008, 12, 31);
+        private Map<String, Double> genderMix;
+
+        public Config withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        // Zipf exponent over makes ranked by frequency in cars.json; 0 makes all makes equally likely.
+        public Config withMakeSkew(double makeSkew) {
+            this.makeSkew = makeSkew;
+            return this;
+        }
+
+        // Log-normal prices: median price and the standard deviation of log(price), clipped to [min, max].
+        public Config withPrices(double median, double spread, double min, double max) {
+            this.priceMedian = median;
+            this.priceSpread = spread;
+            this.minPrice = min;
+            this.maxPrice = max;
+            return this;
+        }
+
+        public Config withYears(int minYear, int maxYear) {
+            this.minYear = minYear;
+            this.maxYear = maxYear;
+            return this;
+        }
+
+        public Config withDobRange(LocalDate minDob, LocalDate maxDob) {
+            this.minDob = minDob;
+            this.maxDob = maxDob;
+            return this;
+        }
+
+        // Relative weights per gender; by default the mix observed in students.json.
+        public Config withGenderMix(Map<String, Double> genderMix) {
+            this.genderMix = new LinkedHashMap<>(genderMix);
+            return this;
+        }
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final Config config;
+    private final String[] makes;
+    private final double[] makeCdf;
+    private final Map<String, String[]> modelsByMake;
+    private final String[] colors;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] domains;
+    private final String[] genders;
+    private final double[] genderCdf;
+
+    public DataGenerator(Config config) throws IOException {
+        this.config = config;
+        List<Car> cars = FetchData.getCarList();
+        List<Student> students = FetchData.getStudentList();
+
+        Map<String, Long> makeCounts = cars.stream().collect(Collectors.groupingBy(Car::getMake, Collectors.counting()));
+        this.makes = makeCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+        double[] makeWeights = new double[makes.length];
+        for (int rank = 0; rank < makes.length; rank++) {
+            makeWeights[rank] = 1 / Math.pow(rank + 1, config.makeSkew);
+        }
+        this.makeCdf = cdf(makeWeights);
+        this.modelsByMake = new HashMap<>();
+        cars.stream()
+                .collect(Collectors.groupingBy(Car::getMake, Collectors.mapping(Car::getModel, Collectors.toCollection(TreeSet::new))))
+                .forEach((make, models) -> modelsByMake.put(make, models.toArray(new String[0])));
+        this.colors = sortedDistinct(cars, Car::getColor);
+        this.firstNames = sortedDistinct(students, Student::getFirst_name);
+        this.lastNames = sortedDistinct(students, Student::getLast_name);
+        this.domains = sortedDistinct(students, s -> s.getEmail().substring(s.getEmail().indexOf('@') + 1));
+
+        Map<String, Double> mix = config.genderMix != null
+                ? config.genderMix
+                : students.stream().collect(Collectors.groupingBy(Student::getGender, TreeMap::new,
+                        Collectors.summingDouble(s -> 1.0)));
+        this.genders = mix.keySet().toArray(new String[0]);
+        this.genderCdf = cdf(mix.values().stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    public void writeCars(long firstRow, long rows, Format format, Path output) throws IOException {
+        if (format == Format.BINARY) {
+            try (RecordBuffer.Writer out = CarBuffer.writer(output)) {
+                for (long row = firstRow; row < firstRow + rows; row++) {
+                    Car car = car(row);
+                    out.append(String.valueOf(car.getId()), car.getMake(), car.getModel(),
+                            String.valueOf(car.getYear()), String.valueOf(car.getPrice()), car.getColor());
+                }
+                out.commit();
+            }
+            return;
+        }
+        writeJson(firstRow, rows, format, output, (row, json) -> {
+            Car car = car(row);
+            json.append("{\"id\":").append(car.getId())
+                    .append(",\"make\":").append(quote(car.getMake()))
+                    .append(",\"model\":").append(quote(car.getModel()))
+                    .append(",\"year\":").append(car.getYear())
+                    .append(",\"price\":").append(car.getPrice())
+                    .append(",\"color\":").append(quote(car.getColor()))
+                    .append('}');
+        });
+    }
+
+    public void writeStudents(long firstRow, long rows, Format format, Path output) throws IOException {
+        if (format == Format.BINARY) {
+            try (RecordBuffer.Writer out = StudentBuffer.writer(output)) {
+                for (long row = firstRow; row < firstRow + rows; row++) {
+                    Student student = student(row);
+                    out.append(String.valueOf(student.getId()), student.getFirst_name(), student.getLast_name(),
+                            student.getEmail(), student.getGender(), student.getDob().toString());
+                }
+                out.commit();
+            }
+            return;
+        }
+        writeJson(firstRow, rows, format, output, (row, json) -> {
+            Student student = student(row);
+            json.append("{\"id\":").append(student.getId())
+                    .append(",\"first_name\":").append(quote(student.getFirst_name()))
+                    .append(",\"last_name\":").append(quote(student.getLast_name()))
+                    .append(",\"email\":").append(quote(student.getEmail()))
+                    .append(",\"gender\":").append(quote(student.getGender()))
+                    .append(",\"dob\":\"").append(student.getDob()).append("\"}");
+        });
+    }
+
+    // Row numbers start at 0; ids are row + 1 like the bundled files.
+    public Car car(long row) {
+        SplittableRandom random = random(row, 1);
+        String make = makes[pick(makeCdf, random.nextDouble())];
+        String[] models = modelsByMake.get(make);
+        double price = Math.exp(Math.log(config.priceMedian) + config.priceSpread * random.nextGaussian());
+        price = Math.round(Math.min(config.maxPrice, Math.max(config.minPrice, price)) * 100) / 100.0;
+        return new Car(Math.toIntExact(row + 1),
+                make,
+                models[random.nextInt(models.length)],
+                random.nextInt(config.minYear, config.maxYear + 1),
+                price,
+                colors[random.nextInt(colors.length)]);
+    }
+
+    public Student student(long row) {
+        SplittableRandom random = random(row, 2);
+        String first = firstNames[random.nextInt(firstNames.length)];
+        String last = lastNames[random.nextInt(lastNames.length)];
+        // Same shape as the bundled emails (kpadden0@utexas.edu); the row suffix keeps them unique.
+        String email = (first.substring(0, 1) + last).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "")
+                + Long.toString(row, 36) + "@" + domains[random.nextInt(domains.length)];
+        long dob = random.nextLong(config.minDob.toEpochDay(), config.maxDob.toEpochDay() + 1);
+        return new Student(Math.toIntExact(row + 1),
+                first,
+                last,
+                email,
+                genders[pick(genderCdf, random.nextDouble())],
+                LocalDate.ofEpochDay(dob).toString());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: DataGenerator <cars|students> <rows> <json|ndjson|binary> <output> [seed] [firstRow]");
+            System.exit(2);
+        }
+        long rows = Long.parseLong(args[1]);
+        Format format = Format.valueOf(args[2].toUpperCase(Locale.ROOT));
+        Path output = Path.of(args[3]);
+        Config config = new Config();
+        if (args.length > 4) {
+            config.withSeed(Long.parseLong(args[4]));
+        }
+        long firstRow = args.length > 5 ? Long.parseLong(args[5]) : 0;
+
+        DataGenerator generator = new DataGenerator(config);
+        long start = System.nanoTime();
+        switch (args[0]) {
+            case "cars" -> generator.writeCars(firstRow, rows, format, output);
+            case "students" -> generator.writeStudents(firstRow, rows, format, output);
+            default -> throw new IllegalArgumentException("Unknown dataset: " + args[0]);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Wrote %,d %s to %s (%,d bytes) in %.1f s, %,.0f rows/s%n",
+                rows, args[0], output, Files.size(output), seconds, rows / seconds);
+    }
+
+    private interface RowWriter {
+        void write(long row, StringBuilder json);
+    }
+
+    private void writeJson(long firstRow, long rows, Format format, Path output, RowWriter rowWriter) throws IOException {
+        boolean array = format == Format.JSON;
+        try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            StringBuilder json = new StringBuilder(256);
+            if (array) {
+                out.write("[\n");
+            }
+            for (long row = firstRow; row < firstRow + rows; row++) {
+                json.setLength(0);
+                rowWriter.write(row, json);
+                if (array && row < firstRow + rows - 1) {
+                    json.append(',');
+                }
+                json.append('\n');
+                out.append(json);
+            }
+            if (array) {
+                out.write("]\n");
+            }
+        }
+    }
+
+    // Seed, stream and row each go through the SplitMix64 finalizer, so no seed's rows are a
+    // shifted copy of another's (a linear combination made seed s + 31 replay seed s from row 1).
+    private SplittableRandom random(long row, long stream) {
+        long hash = mix64(config.seed);
+        hash = mix64(hash + stream * GOLDEN_GAMMA);
+        return new SplittableRandom(mix64(hash + row * GOLDEN_GAMMA));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double[] cdf(double[] weights) {
+        double[] cdf = new double[weights.length];
+        double total = Arrays.stream(weights).sum();
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i] / total;
+            cdf[i] = running;
+        }
+        cdf[cdf.length - 1] = 1.0;
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, double u) {
+        int index = Arrays.binarySearch(cdf, u);
+        return index >= 0 ? index : Math.min(cdf.length - 1, -index - 1);
+    }
+
+    private static <T> String[] sortedDistinct(List<T> items, Function<T, String> field) {
+        return items.stream().map(field).filter(Objects::nonNull).distinct().sorted().toArray(String[]::new);
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (ch < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        quoted.append(ch);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
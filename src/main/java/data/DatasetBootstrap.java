@@ -0,0 +1,192 @@
+package data;
+
+import domain.Car;
+import domain.Student;
+import index.DobIndex;
+import index.StudentSearchIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Loads the datasets and their indexes on first use, each on its own thread.
+ *
+ * Nothing is read until a getter is called, so a job that only needs cars never
+ * touches students.json. Every dataset and index is loaded at most once; callers
+ * that ask while it is loading wait for the same result. {@link #preload()} starts
+ * both datasets at once so that cars and students are read and parsed concurrently;
+ * indexes are only built when asked for, or by {@link #preloadIndexes()}, starting
+ * as soon as students are in.
+ *
+ * Each stage records its read, parse and build time; {@link #report()} prints
+ * them next to the wall time since the bootstrap was created.
+ */
+public class DatasetBootstrap {
+
+    /**
+     * Time spent in one stage. Datasets have read and parse time, indexes build time.
+     */
+    public record Timing(String stage, String thread, long ioNanos, long parseNanos, long buildNanos, int records) {
+        public long totalNanos() {
+            return ioNanos + parseNanos + buildNanos;
+        }
+    }
+
+    private interface Source {
+        String read() throws IOException;
+    }
+
+    private final long createdAt = System.nanoTime();
+    private final ExecutorService executor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Timing> timings = Collections.synchronizedList(new ArrayList<>());
+    private final Lazy<List<Car>> cars;
+    private final Lazy<List<Student>> students;
+    private final Lazy<StudentSearchIndex> searchIndex;
+    private final Lazy<DobIndex> dobIndex;
+
+    private DatasetBootstrap(Source carsSource, Source studentsSource) {
+        this.cars = new Lazy<>(() -> load("cars", carsSource, FetchData::parseCars));
+        this.students = new Lazy<>(() -> load("students", studentsSource, FetchData::parseStudents));
+        this.searchIndex = new Lazy<>(() -> build("student search index", StudentSearchIndex::of));
+        this.dobIndex = new Lazy<>(() -> build("dob index", DobIndex::of));
+    }
+
+    // The bundled cars.json and students.json.
+    public static DatasetBootstrap fromResources() {
+        return new DatasetBootstrap(() -> FetchData.readResource("cars.json"),
+                () -> FetchData.readResource("students.json"));
+    }
+
+    public static DatasetBootstrap fromFiles(Path carsFile, Path studentsFile) {
+        return new DatasetBootstrap(() -> Files.readString(carsFile, StandardCharsets.UTF_8),
+                () -> Files.readString(studentsFile, StandardCharsets.UTF_8));
+    }
+
+    // Starts loading both datasets in the background without waiting for either.
+    public DatasetBootstrap preload() {
+        cars.future();
+        students.future();
+        return this;
+    }
+
+    // Starts both index builds (and the student load they need) without waiting.
+    public DatasetBootstrap preloadIndexes() {
+        searchIndex.future();
+        dobIndex.future();
+        return this;
+    }
+
+    public List<Car> cars() {
+        return cars.get();
+    }
+
+    public List<Student> students() {
+        return students.get();
+    }
+
+    public StudentSearchIndex studentSearchIndex() {
+        return searchIndex.get();
+    }
+
+    public DobIndex dobIndex() {
+        return dobIndex.get();
+    }
+
+    // Finished stages in completion order.
+    public List<Timing> timings() {
+        synchronized (timings) {
+            return List.copyOf(timings);
+        }
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder("Startup breakdown (ms):\n");
+        report.append(String.format("  %-22s %8s %8s %8s %8s %10s  %s%n",
+                "stage", "io", "parse", "build", "total", "records", "thread"));
+        long busy = 0;
+        for (Timing timing : timings()) {
+            report.append(String.format("  %-22s %8.1f %8.1f %8.1f %8.1f %,10d  %s%n",
+                    timing.stage(), millis(timing.ioNanos()), millis(timing.parseNanos()),
+                    millis(timing.buildNanos()), millis(timing.totalNanos()), timing.records(), timing.thread()));
+            busy += timing.totalNanos();
+        }
+        report.append(String.format("  sum of stages %.1f ms, wall time since start %.1f ms%n",
+                millis(busy), millis(System.nanoTime() - createdAt)));
+        return report.toString();
+    }
+
+    private <T> CompletableFuture<List<T>> load(String stage, Source source, Function<String, List<T>> parser) {
+        return CompletableFuture.supplyAsync(() -> {
+            Thread.currentThread().setName("bootstrap-" + stage);
+            long start = System.nanoTime();
+            String json;
+            try {
+                json = source.read();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long read = System.nanoTime();
+            List<T> records = List.copyOf(parser.apply(json));
+            long parsed = System.nanoTime();
+            timings.add(new Timing(stage, Thread.currentThread().getName(), read - start, parsed - read, 0, records.size()));
+            return records;
+        }, executor);
+    }
+
+    // Indexes are built from students, starting as soon as they are loaded.
+    private <T> CompletableFuture<T> build(String stage, Function<List<Student>, T> builder) {
+        return students.future().thenApplyAsync(loaded -> {
+            Thread.currentThread().setName("bootstrap-" + stage.replace(' ', '-'));
+            long start = System.nanoTime();
+            T index = builder.apply(loaded);
+            timings.add(new Timing(stage, Thread.currentThread().getName(), 0, 0, System.nanoTime() - start, loaded.size()));
+            return index;
+        }, executor);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    // Starts its stage on the first call and hands every caller the same future.
+    private static final class Lazy<T> {
+        private final Supplier<CompletableFuture<T>> start;
+        private CompletableFuture<T> future;
+
+        Lazy(Supplier<CompletableFuture<T>> start) {
+            this.start = start;
+        }
+
+        synchronized CompletableFuture<T> future() {
+            if (future == null) {
+                future = start.get();
+            }
+            return future;
+        }
+
+        T get() {
+            try {
+                return future().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package data;
+
+import com.google.gson.JsonParseException;
+import domain.Car;
+import domain.Student;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Holds the current {@link DatasetSnapshot} and swaps in new versions as the source files change.
+ *
+ * Readers call {@link #current()}, a single volatile read with no locking. Reloads
+ * run on the caller's thread or on the background watcher started by {@link #watch()};
+ * they parse only files whose contents changed (by length and CRC32C), keep the previous
+ * instance of every record that is unchanged, and publish the result atomically.
+ * A file that fails to parse (e.g. caught half-written) leaves the old snapshot in place.
+ */
+public class DatasetHolder implements AutoCloseable {
+
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final Path carsFile;
+    private final Path studentsFile;
+    private volatile DatasetSnapshot current;
+
+    // Guarded by this.
+    private FileState carsState;
+    private FileState studentsState;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public DatasetHolder(Path carsFile, Path studentsFile) throws IOException {
+        this.carsFile = carsFile.toAbsolutePath();
+        this.studentsFile = studentsFile.toAbsolutePath();
+        reload();
+    }
+
+    public DatasetSnapshot current() {
+        return current;
+    }
+
+    public synchronized DatasetSnapshot reload() throws IOException {
+        DatasetSnapshot previous = current;
+        byte[] carsBytes = Files.readAllBytes(carsFile);
+        byte[] studentsBytes = Files.readAllBytes(studentsFile);
+        FileState newCarsState = FileState.of(carsBytes);
+        FileState newStudentsState = FileState.of(studentsBytes);
+
+        List<Car> cars = previous != null && newCarsState.equals(carsState)
+                ? previous.getCars()
+                : reuseUnchanged(previous == null ? List.of() : previous.getCars(),
+                        loaded(carsFile, FetchData.parseCars(utf8(carsBytes))), Car::getId);
+        List<Student> students = previous != null && newStudentsState.equals(studentsState)
+                ? previous.getStudents()
+                : reuseUnchanged(previous == null ? List.of() : previous.getStudents(),
+                        loaded(studentsFile, FetchData.parseStudents(utf8(studentsBytes))), Student::getId);
+
+        if (previous != null && cars == previous.getCars() && students == previous.getStudents()) {
+            return previous;
+        }
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+        current = new DatasetSnapshot(version, Instant.now(), cars, students);
+        carsState = newCarsState;
+        studentsState = newStudentsState;
+        return current;
+    }
+
+    /**
+     * Starts a daemon thread that reloads whenever either source file is created or modified.
+     */
+    public synchronized void watch() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new HashSet<>(List.of(carsFile.getParent(), studentsFile.getParent()));
+        for (Path directory : directories) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        }
+        WatchService service = watchService;
+        watcher = new Thread(() -> watchLoop(service), "dataset-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean relevant = isRelevant(key);
+                // Editors and copy tools fire several events per save; wait for the burst to end.
+                while ((key = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= isRelevant(key);
+                }
+                if (relevant) {
+                    try {
+                        reload();
+                    } catch (IOException | RuntimeException e) {
+                        // Anything thrown here would kill the watcher; keep serving the old snapshot instead.
+                        System.err.println("Dataset reload failed, keeping version "
+                                + current.getVersion() + ": " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed: stop watching.
+        }
+    }
+
+    private boolean isRelevant(WatchKey key) {
+        Path directory = (Path) key.watchable();
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path name) {
+                Path changed = directory.resolve(name);
+                relevant |= changed.equals(carsFile) || changed.equals(studentsFile);
+            } else {
+                relevant = true; // OVERFLOW: events were lost, so check anyway.
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watcher.interrupt();
+            watchService = null;
+            watcher = null;
+        }
+    }
+
+    // Gson reads an empty (e.g. just truncated) file as null and "[1,,2]" with null elements.
+    private static <T> List<T> loaded(Path file, List<T> records) {
+        if (records == null || records.contains(null)) {
+            throw new JsonParseException(file + " is empty or has null records");
+        }
+        return records;
+    }
+
+    // Keeps the previous instance of each record that is field-for-field unchanged.
+    static <T> List<T> reuseUnchanged(List<T> previous, List<T> loaded, Function<T, Integer> id) {
+        Map<Integer, T> byId = new HashMap<>(previous.size() * 2);
+        previous.forEach(record -> byId.put(id.apply(record), record));
+        List<T> merged = new ArrayList<>(loaded.size());
+        for (T record : loaded) {
+            T old = byId.get(id.apply(record));
+            merged.add(record.equals(old) ? old : record);
+        }
+        return merged;
+    }
+
+    private static String utf8(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Content, not size and mtime: a same-size rewrite can keep its old mtime (coarse
+    // timestamps, cp -p, rsync -t, two writes in one tick) and must still be picked up.
+    private record FileState(long size, long checksum) {
+        static FileState of(byte[] bytes) {
+            CRC32C crc = new CRC32C();
+            crc.update(bytes);
+            return new FileState(bytes.length, crc.getValue());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package data;
+
+import domain.Car;
+import domain.Student;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One immutable version of the car and student data.
+ *
+ * A query that grabbed a snapshot keeps seeing exactly that data, however many
+ * reloads are published while it runs.
+ */
+public class DatasetSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<Car> cars;
+    private final List<Student> students;
+
+    DatasetSnapshot(long version, Instant loadedAt, List<Car> cars, List<Student> students) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.cars = List.copyOf(cars);
+        this.students = List.copyOf(students);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<Car> getCars() {
+        return cars;
+    }
+
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetSnapshot{" +
+                "version=" + version +
+                ", loadedAt=" + loadedAt +
+                ", cars=" + cars.size() +
+                ", students=" + students.size() +
+                '}';
+    }
+}
@@ -12,29 +12,49 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 public class FetchData {
 
+    // Gson instances are thread-safe and cache their type adapters, so build them once.
+    private static final Gson CAR_GSON = new Gson();
+    private static final Gson STUDENT_GSON = new GsonBuilder()
+            .registerTypeAdapter(LocalDate.class, new LocalDateDeserializer())
+            .create();
+    private static final Type CAR_LIST = new TypeToken<ArrayList<Car>>() {}.getType();
+    private static final Type STUDENT_LIST = new TypeToken<ArrayList<Student>>() {}.getType();
+
 public static List<Car> getCarList() throws IOException {
-    InputStream in = Resources.getResource("cars.json").openStream();
-    String json = IOUtils.toString(in, StandardCharsets.UTF_8);
-    Type listType  = new TypeToken<ArrayList<Car>>(){
-    }.getType();
-    return new Gson().fromJson(json,listType);
+    return parseCars(readResource("cars.json"));
 }
     public static List<Student> getStudentList() throws IOException {
-        InputStream in = Resources.getResource("students.json").openStream();
-        String json = IOUtils.toString(in, StandardCharsets.UTF_8);
-        Type listType = new TypeToken<ArrayList<Student>>() {}.getType();
+        return parseStudents(readResource("students.json"));
+    }
 
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(LocalDate.class, new LocalDateDeserializer())
-                .create();
+    public static List<Car> getCarList(Path file) throws IOException {
+        return parseCars(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    public static List<Student> getStudentList(Path file) throws IOException {
+        return parseStudents(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    static String readResource(String name) throws IOException {
+        try (InputStream in = Resources.getResource(name).openStream()) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+    }
+
+    static List<Car> parseCars(String json) {
+        return CAR_GSON.fromJson(json, CAR_LIST);
+    }
 
-        return gson.fromJson(json, listType);
+    static List<Student> parseStudents(String json) {
+        return STUDENT_GSON.fromJson(json, STUDENT_LIST);
     }
 
 
@@ -13,13 +13,20 @@ import java.util.Optional;
 
 import static challenges.CarOps.*;
 import static challenges.StudentOps.*;
-import static data.FetchData.getCarList;
-import static data.FetchData.getStudentList;
 
 public class Main {
     public static void main(String[] args) throws IOException {
-        List<Car> cars = getCarList();
-        List<Student> students = getStudentList();
+        // Cars and students load concurrently. Indexes are built on first use; -Dstartup.timing=true
+        // also builds them and prints where startup time went.
+        DatasetBootstrap bootstrap = DatasetBootstrap.fromResources().preload();
+        List<Car> cars = bootstrap.cars();
+        List<Student> students = bootstrap.students();
+        if (Boolean.getBoolean("startup.timing")) {
+            bootstrap.preloadIndexes();
+            bootstrap.dobIndex();
+            bootstrap.studentSearchIndex();
+            System.err.print(bootstrap.report());
+        }
 
 //        System.out.println("Question1: +++++++++++++++++++++++++++++++++++++++++++++++++++++++++++++");
 //
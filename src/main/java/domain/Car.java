@@ -1,5 +1,7 @@
 package domain;
 
+import java.util.Objects;
+
 public class Car {
     private final Integer id;
     private final String make;
@@ -41,6 +43,23 @@ public class Car {
         return color;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Car car)) return false;
+        return Objects.equals(id, car.id)
+                && Objects.equals(make, car.make)
+                && Objects.equals(model, car.model)
+                && Objects.equals(year, car.year)
+                && Objects.equals(price, car.price)
+                && Objects.equals(color, car.color);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, make, model, year, price, color);
+    }
+
     @Override
     public String toString() {
         return "Car{" +
@@ -3,6 +3,7 @@ import java.time.LocalDate;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.Objects;
 
 public class Student {
 
@@ -12,7 +13,6 @@ public class Student {
     private final String email;
     private final String gender;
     private final LocalDate dob;
-    private int age;
 
     public Student(Integer id, String first_name, String last_name, String email, String gender, String dob) {
         this.id = id;
@@ -51,8 +51,29 @@ public class Student {
         return Period.between(dob,LocalDate.now()).getYears(); // dGetter for age
     }
 
+    /**
+     * @deprecated age is derived from {@link #getDob()}; students are immutable so they can be
+     * shared between dataset snapshots and concurrent queries.
+     */
+    @Deprecated
     public void setAge(int age) {
-        this.age = age; // Setter for age
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Student student)) return false;
+        return Objects.equals(id, student.id)
+                && Objects.equals(first_name, student.first_name)
+                && Objects.equals(last_name, student.last_name)
+                && Objects.equals(email, student.email)
+                && Objects.equals(gender, student.gender)
+                && Objects.equals(dob, student.dob);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, first_name, last_name, email, gender, dob);
     }
 
     @Override
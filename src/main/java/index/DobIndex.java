@@ -0,0 +1,200 @@
+package index;
+
+import domain.Student;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Period;
+import java.util.*;
+
+/**
+ * Students sorted by date of birth, for age and birthday questions answered by binary search.
+ *
+ * "Age at least a on day d" is "born on or before d minus a years", so adult
+ * checks, age buckets and min/max age are range counts over the sorted epoch
+ * days: O(log n) each, or O(ages * log n) for a whole distribution. Birthday
+ * windows use a second ordering by month and day. Returned lists are read-only
+ * views into the index.
+ *
+ * The index built by {@link #of(List)} also holds one sub-index per gender.
+ */
+public class DobIndex {
+
+    private static final int ADULT_AGE = 18;
+
+    private final List<Student> byDob;
+    private final long[] dobDays;
+    private final List<Student> byBirthday;
+    private final int[] birthdayKeys;
+    private final Map<String, DobIndex> byGender;
+
+    private DobIndex(List<Student> students, Map<String, DobIndex> byGender) {
+        Student[] sorted = students.toArray(new Student[0]);
+        Arrays.sort(sorted, Comparator.comparing(Student::getDob).thenComparing(Student::getId));
+        this.byDob = List.of(sorted);
+        this.dobDays = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            dobDays[i] = sorted[i].getDob().toEpochDay();
+        }
+
+        Student[] birthdays = sorted.clone();
+        Arrays.sort(birthdays, Comparator.comparingInt((Student s) -> birthdayKey(s.getDob()))
+                .thenComparing(Student::getDob));
+        this.byBirthday = List.of(birthdays);
+        this.birthdayKeys = new int[birthdays.length];
+        for (int i = 0; i < birthdays.length; i++) {
+            birthdayKeys[i] = birthdayKey(birthdays[i].getDob());
+        }
+        this.byGender = byGender;
+    }
+
+    public static DobIndex of(List<Student> students) {
+        Map<String, List<Student>> grouped = new HashMap<>();
+        students.forEach(s -> grouped.computeIfAbsent(s.getGender(), g -> new ArrayList<>()).add(s));
+        Map<String, DobIndex> byGender = new HashMap<>();
+        grouped.forEach((gender, group) -> byGender.put(gender, new DobIndex(group, Map.of())));
+        return new DobIndex(students, byGender);
+    }
+
+    // The sub-index for one gender; empty if nobody has it.
+    public DobIndex forGender(String gender) {
+        return byGender.getOrDefault(gender, new DobIndex(List.of(), Map.of()));
+    }
+
+    public int size() {
+        return byDob.size();
+    }
+
+    // Oldest first.
+    public List<Student> sortedByDob() {
+        return byDob;
+    }
+
+    public List<Student> bornBetween(LocalDate from, LocalDate to) {
+        int start = countBornBefore(from);
+        return byDob.subList(start, Math.max(start, countBornOnOrBefore(to)));
+    }
+
+    public int countBornBetween(LocalDate from, LocalDate to) {
+        return bornBetween(from, to).size();
+    }
+
+    public List<Student> adults(LocalDate today) {
+        return byDob.subList(0, countBornOnOrBefore(today.minusYears(ADULT_AGE)));
+    }
+
+    public boolean allAdult(LocalDate today) {
+        return adults(today).size() == size();
+    }
+
+    public Optional<Student> youngest() {
+        return byDob.isEmpty() ? Optional.empty() : Optional.of(byDob.get(byDob.size() - 1));
+    }
+
+    public Optional<Student> oldest() {
+        return byDob.isEmpty() ? Optional.empty() : Optional.of(byDob.get(0));
+    }
+
+    // Students aged minAge to maxAge inclusive on the given day.
+    public List<Student> aged(int minAge, int maxAge, LocalDate today) {
+        return bornBetween(today.minusYears(maxAge + 1L).plusDays(1), today.minusYears(minAge));
+    }
+
+    public Map<Integer, Long> ageDistribution(LocalDate today) {
+        Map<Integer, Long> distribution = new TreeMap<>();
+        groupByAge(today).forEach((age, students) -> distribution.put(age, (long) students.size()));
+        return distribution;
+    }
+
+    // Ages with no students are left out, as with Collectors.groupingBy.
+    public Map<Integer, List<Student>> groupByAge(LocalDate today) {
+        Map<Integer, List<Student>> groups = new TreeMap<>();
+        if (byDob.isEmpty()) {
+            return groups;
+        }
+        int youngestAge = ageOn(byDob.get(byDob.size() - 1).getDob(), today);
+        int oldestAge = ageOn(byDob.get(0).getDob(), today);
+        for (int age = Math.max(0, youngestAge); age <= oldestAge; age++) {
+            List<Student> group = aged(age, age, today);
+            if (!group.isEmpty()) {
+                groups.put(age, group);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Students whose birthday falls within {@code days} days starting today, in
+     * order of the upcoming date. In non-leap years, Feb 29 birthdays are
+     * celebrated on Feb 28.
+     */
+    public List<Student> birthdaysWithin(LocalDate today, int days) {
+        if (days <= 0) {
+            return List.of();
+        }
+        LocalDate last = today.plusDays(days - 1L);
+        if (!last.isBefore(today.plusYears(1))) {
+            return rotate(lowerBound(birthdayKey(today)));
+        }
+        int startKey = birthdayKey(today);
+        int endKey = last.getMonth() == Month.FEBRUARY && last.getDayOfMonth() == 28 && !last.isLeapYear()
+                ? birthdayKey(LocalDate.of(2000, 2, 29))
+                : birthdayKey(last);
+        if (last.getYear() == today.getYear()) {
+            return byBirthday.subList(lowerBound(startKey), lowerBound(endKey + 1));
+        }
+        List<Student> window = new ArrayList<>(byBirthday.subList(lowerBound(startKey), byBirthday.size()));
+        window.addAll(byBirthday.subList(0, lowerBound(endKey + 1)));
+        return Collections.unmodifiableList(window);
+    }
+
+    private List<Student> rotate(int start) {
+        List<Student> all = new ArrayList<>(byBirthday.subList(start, byBirthday.size()));
+        all.addAll(byBirthday.subList(0, start));
+        return Collections.unmodifiableList(all);
+    }
+
+    private int countBornBefore(LocalDate day) {
+        return lowerBound(dobDays, day.toEpochDay());
+    }
+
+    private int countBornOnOrBefore(LocalDate day) {
+        return lowerBound(dobDays, day.toEpochDay() + 1);
+    }
+
+    private int lowerBound(int birthdayKey) {
+        int low = 0;
+        int high = birthdayKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (birthdayKeys[mid] < birthdayKey) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int ageOn(LocalDate dob, LocalDate today) {
+        return Period.between(dob, today).getYears();
+    }
+
+    private static int birthdayKey(LocalDate date) {
+        return date.getMonthValue() * 32 + date.getDayOfMonth();
+    }
+}
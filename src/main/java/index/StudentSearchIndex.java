@@ -0,0 +1,124 @@
+package index;
+
+import domain.Student;
+
+import java.util.*;
+
+/**
+ * Type-ahead search over student names and email domains.
+ *
+ * Every student contributes three lower-cased keys (first name, last name and
+ * "first last"), kept in one sorted array. A prefix query binary-searches to the
+ * first key with that prefix and walks forward until it has {@code limit}
+ * distinct students, so it costs O(log n + limit) however many students match.
+ * Results are ranked exact match first, then alphabetically by the matching key.
+ *
+ * Email domains live in a hash index from lower-cased domain to students in list order.
+ */
+public class StudentSearchIndex {
+
+    private final Student[] students;
+    private final String[] keys;
+    private final int[] rows;
+    private final Map<String, int[]> rowsByDomain;
+
+    private StudentSearchIndex(Student[] students, String[] keys, int[] rows, Map<String, int[]> rowsByDomain) {
+        this.students = students;
+        this.keys = keys;
+        this.rows = rows;
+        this.rowsByDomain = rowsByDomain;
+    }
+
+    public static StudentSearchIndex of(List<Student> students) {
+        Student[] byRow = students.toArray(new Student[0]);
+        List<Entry> entries = new ArrayList<>(byRow.length * 3);
+        Map<String, List<Integer>> domains = new HashMap<>();
+        for (int row = 0; row < byRow.length; row++) {
+            Student student = byRow[row];
+            String first = normalize(student.getFirst_name());
+            String last = normalize(student.getLast_name());
+            entries.add(new Entry(first, row));
+            entries.add(new Entry(last, row));
+            entries.add(new Entry(first + " " + last, row));
+
+            String domain = domainOf(student.getEmail());
+            if (domain != null) {
+                domains.computeIfAbsent(domain, d -> new ArrayList<>()).add(row);
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::key).thenComparingInt(Entry::row));
+
+        String[] keys = new String[entries.size()];
+        int[] rows = new int[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).key();
+            rows[i] = entries.get(i).row();
+        }
+        Map<String, int[]> rowsByDomain = new HashMap<>(domains.size() * 2);
+        domains.forEach((domain, list) -> rowsByDomain.put(domain, list.stream().mapToInt(Integer::intValue).toArray()));
+        return new StudentSearchIndex(byRow, keys, rows, rowsByDomain);
+    }
+
+    // Students whose first name, last name or full name starts with the prefix, ignoring case.
+    public List<Student> searchByName(String prefix, int limit) {
+        String needle = normalize(prefix);
+        if (needle.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<Student> result = new ArrayList<>(Math.min(limit, 64));
+        Set<Integer> seen = new HashSet<>();
+        for (int i = lowerBound(needle); i < keys.length && result.size() < limit; i++) {
+            if (!keys[i].startsWith(needle)) {
+                break;
+            }
+            if (seen.add(rows[i])) {
+                result.add(students[rows[i]]);
+            }
+        }
+        return result;
+    }
+
+    // Accepts "utexas.edu" or "@utexas.edu".
+    public List<Student> searchByEmailDomain(String domain) {
+        String key = normalize(domain.startsWith("@") ? domain.substring(1) : domain);
+        int[] matches = rowsByDomain.getOrDefault(key, new int[0]);
+        List<Student> result = new ArrayList<>(matches.length);
+        for (int row : matches) {
+            result.add(students[row]);
+        }
+        return result;
+    }
+
+    public Set<String> emailDomains() {
+        return Collections.unmodifiableSet(rowsByDomain.keySet());
+    }
+
+    private int lowerBound(String needle) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(needle) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String domainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 || at == email.length() - 1 ? null : normalize(email.substring(at + 1));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String key, int row) {
+    }
+}
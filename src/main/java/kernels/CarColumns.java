@@ -0,0 +1,58 @@
+package kernels;
+
+import domain.Car;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cars with price and year unboxed into primitive columns for {@link ColumnKernels}.
+ *
+ * Build it once per dataset; the columns share row numbers with the source list,
+ * so a selection bitmap maps straight back to cars.
+ */
+public class CarColumns {
+
+    private final List<Car> cars;
+    private final double[] prices;
+    private final int[] years;
+
+    private CarColumns(List<Car> cars, double[] prices, int[] years) {
+        this.cars = cars;
+        this.prices = prices;
+        this.years = years;
+    }
+
+    public static CarColumns of(List<Car> cars) {
+        double[] prices = new double[cars.size()];
+        int[] years = new int[cars.size()];
+        for (int i = 0; i < prices.length; i++) {
+            Car car = cars.get(i);
+            prices[i] = car.getPrice();
+            years[i] = car.getYear();
+        }
+        return new CarColumns(List.copyOf(cars), prices, years);
+    }
+
+    public int size() {
+        return prices.length;
+    }
+
+    public double[] prices() {
+        return prices;
+    }
+
+    public int[] years() {
+        return years;
+    }
+
+    public List<Car> select(long[] bitmap) {
+        List<Car> selected = new ArrayList<>();
+        for (int word = 0; word < bitmap.length; word++) {
+            for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+                selected.add(cars.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,51 @@
+package kernels;
+
+/**
+ * Aggregation kernels over primitive columns.
+ *
+ * Ranges are open intervals, {@code lo < v < hi}, like
+ * {@code CarOps.carWithSpecificPriceRange}; pass infinities or
+ * {@code Integer.MIN_VALUE/MAX_VALUE} for one-sided ranges. min and max of an
+ * empty column are the identity of the reduction (+/- infinity, MAX/MIN_VALUE).
+ *
+ * Bitmaps hold bit {@code i % 64} of word {@code i / 64} for element {@code i}.
+ */
+public interface ColumnKernels {
+
+    double sum(double[] values);
+
+    double min(double[] values);
+
+    double max(double[] values);
+
+    int countInRange(double[] values, double lo, double hi);
+
+    // Stops at the first value in range.
+    boolean anyInRange(double[] values, double lo, double hi);
+
+    // True if every value is strictly above threshold (so for an empty column); stops at the first that is not.
+    boolean allAbove(double[] values, double threshold);
+
+    long[] rangeToBitmap(double[] values, double lo, double hi);
+
+    long sum(int[] values);
+
+    int min(int[] values);
+
+    int max(int[] values);
+
+    int countInRange(int[] values, int lo, int hi);
+
+    long[] rangeToBitmap(int[] values, int lo, int hi);
+
+    String name();
+
+    /**
+     * The vectorized kernels when {@code jdk.incubator.vector} is in the boot layer
+     * (run with {@code --add-modules jdk.incubator.vector}), otherwise the scalar ones.
+     * {@code -Dkernels.scalar=true} forces the scalar fallback.
+     */
+    static ColumnKernels get() {
+        return KernelSelection.INSTANCE;
+    }
+}
@@ -0,0 +1,79 @@
+package kernels;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Compares the boxed stream pipeline, the scalar kernels and the vector kernels on price columns.
+ *
+ * Run with the Vector API enabled, e.g.
+ * {@code java --add-modules jdk.incubator.vector -cp target/classes kernels.KernelBenchmark [sizes...]}.
+ * Each cell is the median of several timed runs after warm-up, in nanoseconds per element.
+ */
+public class KernelBenchmark {
+
+    private static final int RUNS = 15;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1_000, 100_000, 10_000_000};
+        ColumnKernels scalar = new ScalarKernels();
+        ColumnKernels vector = ColumnKernels.get();
+        System.out.println("Vector kernels: " + vector.name());
+        System.out.printf("%-12s %-14s %10s %10s %10s %9s%n", "size", "kernel", "boxed", "scalar", "vector", "speedup");
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int size : sizes) {
+            double[] prices = random.doubles(size, 1000, 250000).toArray();
+            Double[] boxed = Arrays.stream(prices).boxed().toArray(Double[]::new);
+
+            report(size, "sum", prices,
+                    p -> Arrays.stream(boxed).mapToDouble(Double::doubleValue).sum(),
+                    scalar::sum, vector::sum);
+            report(size, "min", prices,
+                    p -> Arrays.stream(boxed).mapToDouble(Double::doubleValue).min().orElse(0),
+                    scalar::min, vector::min);
+            report(size, "max", prices,
+                    p -> Arrays.stream(boxed).mapToDouble(Double::doubleValue).max().orElse(0),
+                    scalar::max, vector::max);
+            report(size, "countInRange", prices,
+                    p -> Arrays.stream(boxed).filter(v -> v > 10000 && v < 20000).count(),
+                    p -> scalar.countInRange(p, 10000, 20000), p -> vector.countInRange(p, 10000, 20000));
+            report(size, "rangeBitmap", prices,
+                    p -> Arrays.stream(boxed).filter(v -> v > 10000 && v < 20000).toList().size(),
+                    p -> scalar.rangeToBitmap(p, 10000, 20000).length, p -> vector.rangeToBitmap(p, 10000, 20000).length);
+        }
+    }
+
+    private static void report(int size, String kernel, double[] prices, ToDoubleFunction<double[]> boxed,
+                               ToDoubleFunction<double[]> scalar, ToDoubleFunction<double[]> vector) {
+        double boxedNs = time(prices, boxed);
+        double scalarNs = time(prices, scalar);
+        double vectorNs = time(prices, vector);
+        System.out.printf("%-12d %-14s %10.3f %10.3f %10.3f %8.1fx%n",
+                size, kernel, boxedNs, scalarNs, vectorNs, scalarNs / vectorNs);
+    }
+
+    private static double time(double[] prices, ToDoubleFunction<double[]> kernel) {
+        int repeat = Math.max(1, 10_000_000 / prices.length);
+        double sink = 0;
+        for (int i = 0; i < repeat * 5; i++) {
+            sink += kernel.applyAsDouble(prices);
+        }
+        double[] nsPerElement = new double[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < repeat; i++) {
+                sink += kernel.applyAsDouble(prices);
+            }
+            nsPerElement[run] = (double) (System.nanoTime() - start) / repeat / prices.length;
+        }
+        if (sink == 42) {
+            System.out.print("");
+        }
+        Arrays.sort(nsPerElement);
+        return nsPerElement[RUNS / 2];
+    }
+}
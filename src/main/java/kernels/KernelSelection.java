@@ -0,0 +1,22 @@
+package kernels;
+
+final class KernelSelection {
+
+    static final ColumnKernels INSTANCE = select();
+
+    private KernelSelection() {
+    }
+
+    private static ColumnKernels select() {
+        if (Boolean.getBoolean("kernels.scalar")
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarKernels();
+        }
+        try {
+            // Loaded reflectively so nothing links against the incubator module unless it is present.
+            return (ColumnKernels) Class.forName("kernels.VectorKernels").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarKernels();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package kernels;
+
+/**
+ * Plain loops over primitive arrays; the fallback when the Vector API is unavailable.
+ */
+public class ScalarKernels implements ColumnKernels {
+
+    @Override
+    public double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values) {
+        double min = Double.POSITIVE_INFINITY;
+        for (double value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(double[] values, double lo, double hi) {
+        int count = 0;
+        for (double value : values) {
+            if (value > lo && value < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anyInRange(double[] values, double lo, double hi) {
+        for (double value : values) {
+            if (value > lo && value < hi) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allAbove(double[] values, double threshold) {
+        for (double value : values) {
+            if (!(value > threshold)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long[] rangeToBitmap(double[] values, double lo, double hi) {
+        long[] bitmap = new long[(values.length + 63) >>> 6];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public long sum(int[] values) {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values) {
+        int min = Integer.MAX_VALUE;
+        for (int value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] values) {
+        int max = Integer.MIN_VALUE;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(int[] values, int lo, int hi) {
+        int count = 0;
+        for (int value : values) {
+            if (value > lo && value < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long[] rangeToBitmap(int[] values, int lo, int hi) {
+        long[] bitmap = new long[(values.length + 63) >>> 6];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
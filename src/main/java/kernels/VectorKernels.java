@@ -0,0 +1,209 @@
+package kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels on {@code jdk.incubator.vector}, using the widest species the CPU supports.
+ *
+ * Only ever instantiated through {@link ColumnKernels#get()}. Sums add lanes in a
+ * different order than a scalar loop, so double sums can differ in the last bits.
+ */
+class VectorKernels implements ColumnKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public double sum(double[] values) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, values, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(double[] values, double lo, double hi) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            count += inRange(DoubleVector.fromArray(DOUBLES, values, i), lo, hi).trueCount();
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anyInRange(double[] values, double lo, double hi) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            if (inRange(DoubleVector.fromArray(DOUBLES, values, i), lo, hi).anyTrue()) {
+                return true;
+            }
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allAbove(double[] values, double threshold) {
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            if (!DoubleVector.fromArray(DOUBLES, values, i).compare(VectorOperators.GT, threshold).allTrue()) {
+                return false;
+            }
+        }
+        for (; i < values.length; i++) {
+            if (!(values[i] > threshold)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Lane counts are powers of two no larger than 64, so a vector's mask never straddles two words.
+    @Override
+    public long[] rangeToBitmap(double[] values, double lo, double hi) {
+        long[] bitmap = new long[(values.length + 63) >>> 6];
+        int i = 0;
+        for (int bound = DOUBLES.loopBound(values.length); i < bound; i += DOUBLES.length()) {
+            bitmap[i >>> 6] |= inRange(DoubleVector.fromArray(DOUBLES, values, i), lo, hi).toLong() << i;
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    // Widened per vector: an int lane accumulator would overflow on large columns.
+    @Override
+    public long sum(int[] values) {
+        long sum = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            sum += IntVector.fromArray(INTS, values, i).reduceLanesToLong(VectorOperators.ADD);
+        }
+        for (; i < values.length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] values) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, values, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < values.length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] values) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, values, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < values.length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(int[] values, int lo, int hi) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            count += inRange(IntVector.fromArray(INTS, values, i), lo, hi).trueCount();
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long[] rangeToBitmap(int[] values, int lo, int hi) {
+        long[] bitmap = new long[(values.length + 63) >>> 6];
+        int i = 0;
+        for (int bound = INTS.loopBound(values.length); i < bound; i += INTS.length()) {
+            bitmap[i >>> 6] |= inRange(IntVector.fromArray(INTS, values, i), lo, hi).toLong() << i;
+        }
+        for (; i < values.length; i++) {
+            if (values[i] > lo && values[i] < hi) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + DOUBLES.length() + "x double, " + INTS.length() + "x int)";
+    }
+
+    private static VectorMask<Double> inRange(DoubleVector v, double lo, double hi) {
+        return v.compare(VectorOperators.GT, lo).and(v.compare(VectorOperators.LT, hi));
+    }
+
+    private static VectorMask<Integer> inRange(IntVector v, int lo, int hi) {
+        return v.compare(VectorOperators.GT, lo).and(v.compare(VectorOperators.LT, hi));
+    }
+}
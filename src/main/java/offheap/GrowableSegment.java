@@ -0,0 +1,50 @@
+package offheap;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * An off-heap buffer that doubles as it fills, for building stores row by row.
+ *
+ * Each generation lives in its own confined {@link Arena}, closed as soon as its
+ * contents are copied into the next one, so only the current buffer stays allocated.
+ * {@link #copyTo} makes the exact-size copy that the finished store keeps.
+ */
+final class GrowableSegment implements AutoCloseable {
+
+    private final long alignment;
+    private Arena arena;
+    private MemorySegment segment;
+
+    GrowableSegment(long initialBytes, long alignment) {
+        this.alignment = alignment;
+        this.arena = Arena.ofConfined();
+        this.segment = arena.allocate(Math.max(alignment, initialBytes), alignment);
+    }
+
+    // The buffer, at least minBytes long. Segments returned by earlier calls may no longer be valid.
+    MemorySegment ensureCapacity(long minBytes) {
+        if (minBytes > segment.byteSize()) {
+            Arena grown = Arena.ofConfined();
+            MemorySegment bigger = grown.allocate(Math.max(minBytes, segment.byteSize() * 2), alignment);
+            bigger.copyFrom(segment);
+            arena.close();
+            arena = grown;
+            segment = bigger;
+        }
+        return segment;
+    }
+
+    MemorySegment copyTo(Arena target, long byteSize) {
+        MemorySegment copy = target.allocate(Math.max(alignment, byteSize), alignment);
+        MemorySegment.copy(segment, 0, copy, 0, byteSize);
+        return copy;
+    }
+
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package offheap;
+
+import challenges.RunningStats;
+import domain.Car;
+import view.CarBuffer;
+import view.CarView;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * Cars packed into off-heap memory, so a large inventory adds almost nothing to the GC's work.
+ *
+ * Each car is a fixed 40-byte {@link #LAYOUT} record in one segment; make, model
+ * and color are references into a deduplicated {@link StringArea}. Everything is
+ * allocated from one shared {@link Arena} and freed at once by {@link #close()};
+ * any access after that throws {@link IllegalStateException}.
+ * Queries mirror {@code CarOps} and only create heap objects for what they return.
+ * Large stores are built row by row with {@link #builder()} or from a mapped
+ * {@link CarBuffer}, never needing the whole list of cars on the heap. Arena memory
+ * counts against {@code -XX:MaxDirectMemorySize}, which defaults to the heap size.
+ */
+public class OffHeapCarStore implements AutoCloseable {
+
+    static final StructLayout LAYOUT = MemoryLayout.structLayout(
+            JAVA_INT.withName("id"),
+            JAVA_INT.withName("year"),
+            JAVA_DOUBLE.withName("price"),
+            JAVA_LONG.withName("make"),
+            JAVA_LONG.withName("model"),
+            JAVA_LONG.withName("color"));
+
+    private static final long ID = LAYOUT.byteOffset(groupElement("id"));
+    private static final long YEAR = LAYOUT.byteOffset(groupElement("year"));
+    private static final long PRICE = LAYOUT.byteOffset(groupElement("price"));
+    private static final long MAKE = LAYOUT.byteOffset(groupElement("make"));
+    private static final long MODEL = LAYOUT.byteOffset(groupElement("model"));
+    private static final long COLOR = LAYOUT.byteOffset(groupElement("color"));
+
+    private final Arena arena;
+    private final MemorySegment records;
+    private final StringArea strings;
+    private final int size;
+
+    private OffHeapCarStore(Arena arena, MemorySegment records, StringArea strings, int size) {
+        this.arena = arena;
+        this.records = records;
+        this.strings = strings;
+        this.size = size;
+    }
+
+    public static OffHeapCarStore of(List<Car> cars) {
+        try (Builder builder = new Builder(cars.size())) {
+            cars.forEach(builder::append);
+            return builder.build();
+        }
+    }
+
+    // Reads a record buffer (e.g. a mapped DataGenerator binary file) through its flyweight view.
+    public static OffHeapCarStore of(CarBuffer cars) {
+        try (Builder builder = new Builder(cars.size())) {
+            CarView view = cars.view();
+            for (int i = 0; i < cars.size(); i++) {
+                view.moveTo(i);
+                builder.append(view.getId(), view.getMake(), view.getModel(), view.getYear(), view.getPrice(), view.getColor());
+            }
+            return builder.build();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder(1024);
+    }
+
+    /**
+     * Appends cars row by row into growing off-heap buffers, so a store can be built
+     * from a stream of any length without holding the cars on the heap. Close the
+     * builder to free its buffers whether or not {@link #build()} was called. The
+     * buffers are confined to the thread that created the builder.
+     */
+    public static final class Builder implements AutoCloseable {
+        private final GrowableSegment records;
+        private final StringArea.Builder strings;
+        private int size;
+
+        private Builder(int expectedRows) {
+            this.records = new GrowableSegment(LAYOUT.byteSize() * Math.max(1, expectedRows), LAYOUT.byteAlignment());
+            this.strings = new StringArea.Builder(16L * Math.max(1, expectedRows));
+        }
+
+        public Builder append(Car car) {
+            return append(car.getId(), car.getMake(), car.getModel(), car.getYear(), car.getPrice(), car.getColor());
+        }
+
+        public Builder append(int id, String make, String model, int year, double price, String color) {
+            long base = size * LAYOUT.byteSize();
+            MemorySegment segment = records.ensureCapacity(base + LAYOUT.byteSize());
+            segment.set(JAVA_INT, base + ID, id);
+            segment.set(JAVA_INT, base + YEAR, year);
+            segment.set(JAVA_DOUBLE, base + PRICE, price);
+            segment.set(JAVA_LONG, base + MAKE, strings.add(make, true));
+            segment.set(JAVA_LONG, base + MODEL, strings.add(model, true));
+            segment.set(JAVA_LONG, base + COLOR, strings.add(color, true));
+            size++;
+            return this;
+        }
+
+        // Copies the rows into exact-size segments owned by the new store.
+        public OffHeapCarStore build() {
+            Arena arena = Arena.ofShared();
+            try {
+                return new OffHeapCarStore(arena, records.copyTo(arena, size * LAYOUT.byteSize()), strings.finish(arena), size);
+            } catch (RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            records.close();
+            strings.close();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Car get(int index) {
+        long base = base(index);
+        return new Car(records.get(JAVA_INT, base + ID),
+                strings.get(records.get(JAVA_LONG, base + MAKE)),
+                strings.get(records.get(JAVA_LONG, base + MODEL)),
+                records.get(JAVA_INT, base + YEAR),
+                records.get(JAVA_DOUBLE, base + PRICE),
+                strings.get(records.get(JAVA_LONG, base + COLOR)));
+    }
+
+    public double price(int index) {
+        return records.get(JAVA_DOUBLE, base(index) + PRICE);
+    }
+
+    public int year(int index) {
+        return records.get(JAVA_INT, base(index) + YEAR);
+    }
+
+    // Filter by Make, ignoring case.
+    public List<Car> filterByMake(String make) {
+        byte[] utf8 = make.getBytes(StandardCharsets.UTF_8);
+        List<Car> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (strings.equalsIgnoreCase(records.get(JAVA_LONG, base(i) + MAKE), utf8)) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    // Filter by Price, exclusive on both ends like CarOps.carWithSpecificPriceRange.
+    public List<Car> filterByPriceRange(double lo, double hi) {
+        List<Car> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double price = price(i);
+            if (price > lo && price < hi) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    // Count, sum, average, min and max of prices in one pass.
+    public RunningStats priceStats() {
+        RunningStats stats = new RunningStats();
+        for (int i = 0; i < size; i++) {
+            stats.accept(price(i));
+        }
+        return stats;
+    }
+
+    public RunningStats yearStats() {
+        RunningStats stats = new RunningStats();
+        for (int i = 0; i < size; i++) {
+            stats.accept(year(i));
+        }
+        return stats;
+    }
+
+    // Makes are deduplicated, so counting can key on the reference and decode each make once;
+    // merging by name still gives the right counts if the dedupe map ran out of room.
+    public Map<String, Long> countByMake() {
+        Map<Long, Long> countsByRef = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            countsByRef.merge(records.get(JAVA_LONG, base(i) + MAKE), 1L, Long::sum);
+        }
+        Map<String, Long> counts = new HashMap<>();
+        countsByRef.forEach((ref, count) -> counts.merge(strings.get(ref), count, Long::sum));
+        return counts;
+    }
+
+    public boolean anyWithColor(String color) {
+        byte[] utf8 = color.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < size; i++) {
+            if (strings.equalsIgnoreCase(records.get(JAVA_LONG, base(i) + COLOR), utf8)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allPricedAbove(double price) {
+        for (int i = 0; i < size; i++) {
+            if (price(i) <= price) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<Car> newestCars() {
+        int newest = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            newest = Math.max(newest, year(i));
+        }
+        List<Car> cars = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (year(i) == newest) {
+                cars.add(get(i));
+            }
+        }
+        return cars;
+    }
+
+    // Off-heap bytes held by this store, records plus strings.
+    public long byteSize() {
+        return records.byteSize() + strings.byteSize();
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long base(int index) {
+        Objects.checkIndex(index, size);
+        return index * LAYOUT.byteSize();
+    }
+}
@@ -0,0 +1,225 @@
+package offheap;
+
+import challenges.RunningStats;
+import domain.Student;
+import view.StudentBuffer;
+import view.StudentView;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.*;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * Students packed into off-heap memory; the student counterpart of {@link OffHeapCarStore}.
+ *
+ * Each student is a fixed 48-byte {@link #LAYOUT} record with the date of birth
+ * stored as an epoch day. Names and gender are deduplicated in the {@link StringArea};
+ * emails are unique, so they are stored as-is. Queries mirror {@code StudentOps}.
+ */
+public class OffHeapStudentStore implements AutoCloseable {
+
+    static final StructLayout LAYOUT = MemoryLayout.structLayout(
+            JAVA_INT.withName("id"),
+            MemoryLayout.paddingLayout(4),
+            JAVA_LONG.withName("dob"),
+            JAVA_LONG.withName("first_name"),
+            JAVA_LONG.withName("last_name"),
+            JAVA_LONG.withName("email"),
+            JAVA_LONG.withName("gender"));
+
+    private static final long ID = LAYOUT.byteOffset(groupElement("id"));
+    private static final long DOB = LAYOUT.byteOffset(groupElement("dob"));
+    private static final long FIRST_NAME = LAYOUT.byteOffset(groupElement("first_name"));
+    private static final long LAST_NAME = LAYOUT.byteOffset(groupElement("last_name"));
+    private static final long EMAIL = LAYOUT.byteOffset(groupElement("email"));
+    private static final long GENDER = LAYOUT.byteOffset(groupElement("gender"));
+
+    private final Arena arena;
+    private final MemorySegment records;
+    private final StringArea strings;
+    private final int size;
+
+    private OffHeapStudentStore(Arena arena, MemorySegment records, StringArea strings, int size) {
+        this.arena = arena;
+        this.records = records;
+        this.strings = strings;
+        this.size = size;
+    }
+
+    public static OffHeapStudentStore of(List<Student> students) {
+        try (Builder builder = new Builder(students.size())) {
+            students.forEach(builder::append);
+            return builder.build();
+        }
+    }
+
+    // Reads a record buffer (e.g. a mapped DataGenerator binary file) through its flyweight view.
+    public static OffHeapStudentStore of(StudentBuffer students) {
+        try (Builder builder = new Builder(students.size())) {
+            StudentView view = students.view();
+            for (int i = 0; i < students.size(); i++) {
+                view.moveTo(i);
+                builder.append(view.getId(), view.getFirst_name(), view.getLast_name(), view.getEmail(),
+                        view.getGender(), view.getDob());
+            }
+            return builder.build();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder(1024);
+    }
+
+    /**
+     * Appends students row by row; see {@link OffHeapCarStore.Builder}.
+     */
+    public static final class Builder implements AutoCloseable {
+        private final GrowableSegment records;
+        private final StringArea.Builder strings;
+        private int size;
+
+        private Builder(int expectedRows) {
+            this.records = new GrowableSegment(LAYOUT.byteSize() * Math.max(1, expectedRows), LAYOUT.byteAlignment());
+            this.strings = new StringArea.Builder(32L * Math.max(1, expectedRows));
+        }
+
+        public Builder append(Student student) {
+            return append(student.getId(), student.getFirst_name(), student.getLast_name(), student.getEmail(),
+                    student.getGender(), student.getDob());
+        }
+
+        public Builder append(int id, String firstName, String lastName, String email, String gender, LocalDate dob) {
+            long base = size * LAYOUT.byteSize();
+            MemorySegment segment = records.ensureCapacity(base + LAYOUT.byteSize());
+            segment.set(JAVA_INT, base + ID, id);
+            segment.set(JAVA_LONG, base + DOB, dob.toEpochDay());
+            segment.set(JAVA_LONG, base + FIRST_NAME, strings.add(firstName, true));
+            segment.set(JAVA_LONG, base + LAST_NAME, strings.add(lastName, true));
+            segment.set(JAVA_LONG, base + EMAIL, strings.add(email, false));
+            segment.set(JAVA_LONG, base + GENDER, strings.add(gender, true));
+            size++;
+            return this;
+        }
+
+        // Copies the rows into exact-size segments owned by the new store.
+        public OffHeapStudentStore build() {
+            Arena arena = Arena.ofShared();
+            try {
+                return new OffHeapStudentStore(arena, records.copyTo(arena, size * LAYOUT.byteSize()), strings.finish(arena), size);
+            } catch (RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            records.close();
+            strings.close();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Student get(int index) {
+        long base = base(index);
+        return new Student(records.get(JAVA_INT, base + ID),
+                strings.get(records.get(JAVA_LONG, base + FIRST_NAME)),
+                strings.get(records.get(JAVA_LONG, base + LAST_NAME)),
+                strings.get(records.get(JAVA_LONG, base + EMAIL)),
+                strings.get(records.get(JAVA_LONG, base + GENDER)),
+                LocalDate.ofEpochDay(records.get(JAVA_LONG, base + DOB)).toString());
+    }
+
+    public long dobEpochDay(int index) {
+        return records.get(JAVA_LONG, base(index) + DOB);
+    }
+
+    // Filter Students by Gender, ignoring case.
+    public List<Student> filterByGender(String gender) {
+        byte[] utf8 = gender.getBytes(StandardCharsets.UTF_8);
+        List<Student> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (strings.equalsIgnoreCase(records.get(JAVA_LONG, base(i) + GENDER), utf8)) {
+                matches.add(get(i));
+            }
+        }
+        return matches;
+    }
+
+    public Map<String, Long> countByGender() {
+        Map<Long, Long> countsByRef = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            countsByRef.merge(records.get(JAVA_LONG, base(i) + GENDER), 1L, Long::sum);
+        }
+        Map<String, Long> counts = new HashMap<>();
+        countsByRef.forEach((ref, count) -> counts.merge(strings.get(ref), count, Long::sum));
+        return counts;
+    }
+
+    public List<String> listEmails() {
+        List<String> emails = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long ref = records.get(JAVA_LONG, base(i) + EMAIL);
+            if (StringArea.length(ref) > 0) {
+                emails.add(strings.get(ref));
+            }
+        }
+        return emails;
+    }
+
+    // Count, mean, variance, min and max of ages in one pass.
+    public RunningStats ageStats() {
+        LocalDate currentDate = LocalDate.now();
+        RunningStats stats = new RunningStats();
+        for (int i = 0; i < size; i++) {
+            stats.accept(Period.between(LocalDate.ofEpochDay(dobEpochDay(i)), currentDate).getYears());
+        }
+        return stats;
+    }
+
+    // Adults are born on or before the same day 18 years ago, so no per-student age is needed.
+    public boolean allAdult() {
+        long latestAdultDob = LocalDate.now().minusYears(18).toEpochDay();
+        for (int i = 0; i < size; i++) {
+            if (dobEpochDay(i) > latestAdultDob) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Optional<Student> findById(int id) {
+        for (int i = 0; i < size; i++) {
+            if (records.get(JAVA_INT, base(i) + ID) == id) {
+                return Optional.of(get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Off-heap bytes held by this store, records plus strings.
+    public long byteSize() {
+        return records.byteSize() + strings.byteSize();
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long base(int index) {
+        Objects.checkIndex(index, size);
+        return index * LAYOUT.byteSize();
+    }
+}
@@ -0,0 +1,129 @@
+package offheap;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * UTF-8 strings packed back to back in one off-heap segment.
+ *
+ * A string is addressed by a {@code long} reference holding its offset in the
+ * upper 48 bits and its byte length in the lower 16. Low-cardinality columns
+ * (makes, colors, genders, ...) are deduplicated while building, so equal values
+ * share one copy and, as long as the dedupe map has room, one reference, which lets
+ * group-bys count by reference before decoding each distinct value once.
+ */
+final class StringArea {
+
+    private static final int LENGTH_BITS = 16;
+    private static final long MAX_LENGTH = (1L << LENGTH_BITS) - 1;
+
+    private final MemorySegment bytes;
+
+    private StringArea(MemorySegment bytes) {
+        this.bytes = bytes;
+    }
+
+    static long offset(long ref) {
+        return ref >>> LENGTH_BITS;
+    }
+
+    static int length(long ref) {
+        return (int) (ref & MAX_LENGTH);
+    }
+
+    long byteSize() {
+        return bytes.byteSize();
+    }
+
+    String get(long ref) {
+        byte[] utf8 = new byte[length(ref)];
+        MemorySegment.copy(bytes, ValueLayout.JAVA_BYTE, offset(ref), utf8, 0, utf8.length);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    boolean equals(long ref, byte[] utf8) {
+        if (length(ref) != utf8.length) {
+            return false;
+        }
+        long offset = offset(ref);
+        for (int i = 0; i < utf8.length; i++) {
+            if (bytes.get(ValueLayout.JAVA_BYTE, offset + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Case folding covers ASCII only; other bytes must match exactly.
+    boolean equalsIgnoreCase(long ref, byte[] utf8) {
+        if (length(ref) != utf8.length) {
+            return false;
+        }
+        long offset = offset(ref);
+        for (int i = 0; i < utf8.length; i++) {
+            if (lower(bytes.get(ValueLayout.JAVA_BYTE, offset + i)) != lower(utf8[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    /**
+     * Appends strings one at a time. Deduplicated values are remembered in a map of
+     * at most {@link #MAX_SHARED} entries; once it is full, new values are stored
+     * inline, so heap use during a build stays bounded however many rows are added.
+     */
+    static final class Builder implements AutoCloseable {
+        static final int MAX_SHARED = 1 << 16;
+
+        private final Map<String, Long> shared = new HashMap<>();
+        private final GrowableSegment bytes;
+        private long size;
+
+        Builder(long initialBytes) {
+            this.bytes = new GrowableSegment(initialBytes, 1);
+        }
+
+        long add(String value, boolean dedupe) {
+            String text = value == null ? "" : value;
+            if (dedupe) {
+                Long ref = shared.get(text);
+                if (ref != null) {
+                    return ref;
+                }
+            }
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            long ref = ref(size, utf8.length);
+            MemorySegment.copy(utf8, 0, bytes.ensureCapacity(size + utf8.length), ValueLayout.JAVA_BYTE, size, utf8.length);
+            size += utf8.length;
+            if (dedupe && shared.size() < MAX_SHARED) {
+                shared.put(text, ref);
+            }
+            return ref;
+        }
+
+        StringArea finish(Arena arena) {
+            return new StringArea(bytes.copyTo(arena, size));
+        }
+
+        @Override
+        public void close() {
+            bytes.close();
+        }
+    }
+
+    private static long ref(long offset, long length) {
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("String of " + length + " bytes is too long for an off-heap column");
+        }
+        return offset << LENGTH_BITS | length;
+    }
+}
@@ -0,0 +1,21 @@
+package shard;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A query that can be shipped to a {@link ShardWorker} process.
+ *
+ * Implementations need a public no-arg constructor, because the worker only
+ * receives the class name, and a result type that Gson can round-trip.
+ */
+public interface ShardTask<T, R> {
+
+    R apply(List<T> shard);
+
+    R merge(R left, R right);
+
+    R identity();
+
+    Type resultType();
+}
@@ -0,0 +1,119 @@
+package shard;
+
+import challenges.RunningStats;
+import com.google.common.reflect.TypeToken;
+import domain.Car;
+import domain.Student;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Ready-made {@link ShardTask}s for the common inventory and enrollment reports.
+ */
+public class ShardTasks {
+
+    private ShardTasks() {
+    }
+
+    public static class CarPriceStats implements ShardTask<Car, RunningStats> {
+        @Override
+        public RunningStats apply(List<Car> shard) {
+            return shard.stream().collect(RunningStats.collector(Car::getPrice));
+        }
+
+        @Override
+        public RunningStats merge(RunningStats left, RunningStats right) {
+            return left.combine(right);
+        }
+
+        @Override
+        public RunningStats identity() {
+            return new RunningStats();
+        }
+
+        @Override
+        public Type resultType() {
+            return RunningStats.class;
+        }
+    }
+
+    public static class CarCountByMake implements ShardTask<Car, Map<String, Long>> {
+        @Override
+        public Map<String, Long> apply(List<Car> shard) {
+            return shard.stream().collect(Collectors.groupingBy(Car::getMake, Collectors.counting()));
+        }
+
+        @Override
+        public Map<String, Long> merge(Map<String, Long> left, Map<String, Long> right) {
+            return mergeCounts(left, right);
+        }
+
+        @Override
+        public Map<String, Long> identity() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public Type resultType() {
+            return new TypeToken<Map<String, Long>>() {}.getType();
+        }
+    }
+
+    public static class StudentAgeStats implements ShardTask<Student, RunningStats> {
+        @Override
+        public RunningStats apply(List<Student> shard) {
+            LocalDate currentDate = LocalDate.now();
+            return shard.stream()
+                    .collect(RunningStats.collector(student -> Period.between(student.getDob(), currentDate).getYears()));
+        }
+
+        @Override
+        public RunningStats merge(RunningStats left, RunningStats right) {
+            return left.combine(right);
+        }
+
+        @Override
+        public RunningStats identity() {
+            return new RunningStats();
+        }
+
+        @Override
+        public Type resultType() {
+            return RunningStats.class;
+        }
+    }
+
+    public static class StudentCountByGender implements ShardTask<Student, Map<String, Long>> {
+        @Override
+        public Map<String, Long> apply(List<Student> shard) {
+            return shard.stream().collect(Collectors.groupingBy(Student::getGender, Collectors.counting()));
+        }
+
+        @Override
+        public Map<String, Long> merge(Map<String, Long> left, Map<String, Long> right) {
+            return mergeCounts(left, right);
+        }
+
+        @Override
+        public Map<String, Long> identity() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public Type resultType() {
+            return new TypeToken<Map<String, Long>>() {}.getType();
+        }
+    }
+
+    static <K> Map<K, Long> mergeCounts(Map<K, Long> left, Map<K, Long> right) {
+        Map<K, Long> merged = new HashMap<>(left);
+        right.forEach((key, count) -> merged.merge(key, count, Long::sum));
+        return merged;
+    }
+}
@@ -0,0 +1,35 @@
+package shard;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Entry point of a shard worker process started by
+ * {@link ShardedDataset#queryInWorkers(ShardTask, int, String)}.
+ *
+ * Usage: {@code ShardWorker <cars|students> <task class> <shard file> <result file>}.
+ * The partial result is written to the result file as JSON; anything printed to
+ * stdout by the task or a library is sent to stderr instead, with diagnostics.
+ */
+public class ShardWorker {
+
+    public static void main(String[] args) throws Exception {
+        System.setOut(System.err);
+        if (args.length != 4) {
+            System.err.println("Usage: ShardWorker <cars|students> <task class> <shard file> <result file>");
+            System.exit(2);
+        }
+        ShardTask<Object, Object> task = newTask(args[1]);
+        List<Object> shard = ShardedDataset.load(args[0], Path.of(args[2]));
+
+        String json = ShardedDataset.RESULT_GSON.toJson(task.apply(shard), task.resultType());
+        Files.writeString(Path.of(args[3]), json, StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ShardTask<Object, Object> newTask(String className) throws ReflectiveOperationException {
+        return (ShardTask<Object, Object>) Class.forName(className).getDeclaredConstructor().newInstance();
+    }
+}
@@ -0,0 +1,284 @@
+package shard;
+
+import challenges.RunningStats;
+import com.google.gson.Gson;
+import data.FetchData;
+import domain.Car;
+import domain.Student;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * A dataset split across several JSON files, e.g. one per region.
+ *
+ * Every query is scattered: each shard is loaded and evaluated on its own, in
+ * parallel, and only the small partial results are gathered and merged. A shard
+ * is never held in memory longer than its own evaluation.
+ */
+public class ShardedDataset<T> {
+
+    static final Gson RESULT_GSON = new Gson();
+
+    private final String kind;
+    private final List<Path> shards;
+
+    private ShardedDataset(String kind, List<Path> shards) {
+        this.kind = kind;
+        this.shards = List.copyOf(shards);
+    }
+
+    public static ShardedDataset<Car> cars(List<Path> shards) {
+        return new ShardedDataset<>("cars", shards);
+    }
+
+    public static ShardedDataset<Student> students(List<Path> shards) {
+        return new ShardedDataset<>("students", shards);
+    }
+
+    // All *.json files in a directory, in name order so results are reproducible.
+    public static List<Path> shardsIn(Path directory) throws IOException {
+        List<Path> shards = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            files.forEach(shards::add);
+        }
+        Collections.sort(shards);
+        return shards;
+    }
+
+    public List<Path> getShards() {
+        return shards;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> List<T> load(String kind, Path shard) throws IOException {
+        return switch (kind) {
+            case "cars" -> (List<T>) FetchData.getCarList(shard);
+            case "students" -> (List<T>) FetchData.getStudentList(shard);
+            default -> throw new IllegalArgumentException("Unknown dataset kind: " + kind);
+        };
+    }
+
+    private List<T> load(Path shard) {
+        try {
+            return load(kind, shard);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load shard " + shard, e);
+        }
+    }
+
+    // Partial results may be mutated by merge, so the identity is only returned for an empty dataset.
+    public <R> R query(R identity, Function<List<T>, R> perShard, BinaryOperator<R> merge) {
+        return shards.parallelStream()
+                .map(shard -> perShard.apply(load(shard)))
+                .reduce(merge)
+                .orElse(identity);
+    }
+
+    public long count(Predicate<? super T> predicate) {
+        return query(0L, shard -> shard.stream().filter(predicate).count(), Long::sum);
+    }
+
+    public double sum(ToDoubleFunction<? super T> mapper) {
+        return stats(mapper).getSum();
+    }
+
+    // Count, average, min and max in one scatter/gather round.
+    public RunningStats stats(ToDoubleFunction<? super T> mapper) {
+        return query(new RunningStats(),
+                shard -> shard.stream().collect(RunningStats.collector(mapper)),
+                RunningStats::combine);
+    }
+
+    public Optional<T> max(Comparator<? super T> comparator) {
+        return query(Optional.empty(),
+                shard -> shard.stream().max(comparator).map(Function.<T>identity()),
+                (left, right) -> greater(left, right, comparator));
+    }
+
+    public Optional<T> min(Comparator<? super T> comparator) {
+        return max(comparator.reversed());
+    }
+
+    // The k greatest elements by comparator, greatest first.
+    public List<T> topK(int k, Comparator<? super T> comparator) {
+        return query(List.of(),
+                shard -> topK(shard, k, comparator),
+                (left, right) -> {
+                    List<T> both = new ArrayList<>(left);
+                    both.addAll(right);
+                    return topK(both, k, comparator);
+                });
+    }
+
+    public <K> Map<K, Long> countBy(Function<? super T, ? extends K> classifier) {
+        return query(Map.of(),
+                shard -> shard.stream().collect(Collectors.groupingBy(classifier, Collectors.counting())),
+                ShardTasks::mergeCounts);
+    }
+
+    // Per-group statistics; covers group-by sums, averages, minimums and maximums.
+    public <K> Map<K, RunningStats> statsBy(Function<? super T, ? extends K> classifier,
+                                           ToDoubleFunction<? super T> mapper) {
+        return query(Map.of(),
+                shard -> shard.stream().collect(Collectors.groupingBy(classifier, RunningStats.collector(mapper))),
+                (left, right) -> {
+                    Map<K, RunningStats> merged = new HashMap<>(left);
+                    right.forEach((key, stats) -> merged.merge(key, stats, RunningStats::combine));
+                    return merged;
+                });
+    }
+
+    public <K> Set<K> distinct(Function<? super T, ? extends K> mapper) {
+        return query(Set.of(),
+                shard -> shard.stream().map(mapper).collect(Collectors.toSet()),
+                (left, right) -> {
+                    Set<K> merged = new HashSet<>(left);
+                    merged.addAll(right);
+                    return merged;
+                });
+    }
+
+    /**
+     * Runs the task with each shard in its own JVM, at most {@code workers} at a
+     * time, each started with {@code -Xmx<maxHeap>}. Each worker writes its partial
+     * result as JSON to a temporary file, which is merged here. The first failure
+     * fails the query, and every worker still running is then killed.
+     */
+    public <R> R queryInWorkers(ShardTask<T, R> task, int workers, String maxHeap) throws IOException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Set<Process> running = ConcurrentHashMap.newKeySet();
+        try {
+            List<CompletableFuture<R>> partials = shards.stream()
+                    .map(shard -> CompletableFuture.supplyAsync(() -> runWorker(task, shard, maxHeap, running), pool))
+                    .toList();
+            CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+            partials.forEach(partial -> partial.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            }));
+            CompletableFuture.anyOf(CompletableFuture.allOf(partials.toArray(new CompletableFuture[0])), firstFailure).join();
+
+            R result = task.identity();
+            for (CompletableFuture<R> partial : partials) {
+                result = task.merge(result, partial.join());
+            }
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        } finally {
+            pool.shutdownNow();
+            running.forEach(ShardedDataset::kill);
+        }
+    }
+
+    private <R> R runWorker(ShardTask<T, R> task, Path shard, String maxHeap, Set<Process> running) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Path resultFile = null;
+        Process process = null;
+        try {
+            resultFile = Files.createTempFile("shard-result", ".json");
+            // stdout is not the result channel, so stray prints in the worker can't corrupt it.
+            ProcessBuilder builder = new ProcessBuilder(java,
+                    "-Xmx" + maxHeap,
+                    "-cp", System.getProperty("java.class.path"),
+                    ShardWorker.class.getName(),
+                    kind,
+                    task.getClass().getName(),
+                    shard.toAbsolutePath().toString(),
+                    resultFile.toString())
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            process = builder.start();
+            running.add(process);
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IOException("Shard worker for " + shard + " exited with code " + exitCode);
+            }
+            return RESULT_GSON.fromJson(Files.readString(resultFile, StandardCharsets.UTF_8), task.resultType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new IOException("Interrupted waiting for shard worker " + shard, e));
+        } finally {
+            if (process != null) {
+                kill(process);
+                running.remove(process);
+            }
+            if (resultFile != null) {
+                try {
+                    Files.deleteIfExists(resultFile);
+                } catch (IOException e) {
+                    // Only a stray temp file.
+                }
+            }
+        }
+    }
+
+    // Waits briefly so the worker's heap is released by the time the query returns.
+    private static void kill(Process process) {
+        if (process.isAlive()) {
+            process.destroyForcibly();
+            try {
+                process.waitFor(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static <T> Optional<T> greater(Optional<T> left, Optional<T> right, Comparator<? super T> comparator) {
+        if (left.isEmpty()) {
+            return right;
+        }
+        if (right.isEmpty()) {
+            return left;
+        }
+        return comparator.compare(left.get(), right.get()) >= 0 ? left : right;
+    }
+
+    static <T> List<T> topK(Collection<T> items, int k, Comparator<? super T> comparator) {
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, comparator);
+        for (T item : items) {
+            heap.offer(item);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<T> top = new ArrayList<>(heap);
+        top.sort(comparator.reversed());
+        return top;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedDataset{" +
+                "kind='" + kind + '\'' +
+                ", shards=" + shards +
+                '}';
+    }
+}
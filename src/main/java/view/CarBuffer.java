@@ -0,0 +1,69 @@
+package view;
+
+import domain.Car;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Cars packed into a {@link RecordBuffer}; read them through a {@link CarView}.
+ */
+public class CarBuffer extends RecordBuffer {
+
+    static final int ID = 0;
+    static final int MAKE = 1;
+    static final int MODEL = 2;
+    static final int YEAR = 3;
+    static final int PRICE = 4;
+    static final int COLOR = 5;
+    private static final int FIELDS = 6;
+
+    private CarBuffer(List<String[]> rows) {
+        super(FIELDS, rows);
+    }
+
+    private CarBuffer(ChunkedBuffer file) throws IOException {
+        super(FIELDS, file);
+    }
+
+    public static CarBuffer of(List<Car> cars) {
+        return new CarBuffer(cars.stream()
+                .map(car -> new String[]{
+                        String.valueOf(car.getId()),
+                        car.getMake(),
+                        car.getModel(),
+                        String.valueOf(car.getYear()),
+                        String.valueOf(car.getPrice()),
+                        car.getColor()})
+                .toList());
+    }
+
+    // Memory-maps a file previously produced by write(Path).
+    public static CarBuffer map(Path file) throws IOException {
+        return new CarBuffer(mapFile(file));
+    }
+
+    // Smaller chunks let tests cover reads near chunk boundaries without multi-GB files.
+    static CarBuffer map(Path file, int chunkBits) throws IOException {
+        return new CarBuffer(ChunkedBuffer.map(file, chunkBits));
+    }
+
+    // Streams records to a file that map(Path) can read once committed; fields in the order of the constants above.
+    public static Writer writer(Path file) throws IOException {
+        return new Writer(file, FIELDS);
+    }
+
+    public CarView view() {
+        return new CarView(this);
+    }
+
+    public Car materialize(int record) {
+        return new Car(parseInt(record, ID),
+                string(record, MAKE),
+                string(record, MODEL),
+                parseInt(record, YEAR),
+                Double.parseDouble(string(record, PRICE)),
+                string(record, COLOR));
+    }
+}
@@ -0,0 +1,64 @@
+package view;
+
+import domain.Car;
+
+/**
+ * A reusable cursor over one record of a {@link CarBuffer}.
+ *
+ * Move it with {@link #moveTo(int)}; each getter decodes only its own field,
+ * and the {@code is...} methods compare raw UTF-8 bytes without decoding at all.
+ */
+public class CarView {
+
+    private final CarBuffer buffer;
+    private int record;
+
+    CarView(CarBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public CarView moveTo(int record) {
+        this.record = record;
+        return this;
+    }
+
+    public int getRecord() {
+        return record;
+    }
+
+    public int getId() {
+        return buffer.parseInt(record, CarBuffer.ID);
+    }
+
+    public String getMake() {
+        return buffer.string(record, CarBuffer.MAKE);
+    }
+
+    public boolean isMakeIgnoreCase(byte[] utf8Make) {
+        return buffer.bytesEqualIgnoreCase(record, CarBuffer.MAKE, utf8Make);
+    }
+
+    public String getModel() {
+        return buffer.string(record, CarBuffer.MODEL);
+    }
+
+    public int getYear() {
+        return buffer.parseInt(record, CarBuffer.YEAR);
+    }
+
+    public double getPrice() {
+        return Double.parseDouble(buffer.string(record, CarBuffer.PRICE));
+    }
+
+    public String getColor() {
+        return buffer.string(record, CarBuffer.COLOR);
+    }
+
+    public boolean isColorIgnoreCase(byte[] utf8Color) {
+        return buffer.bytesEqualIgnoreCase(record, CarBuffer.COLOR, utf8Color);
+    }
+
+    public Car toCar() {
+        return buffer.materialize(record);
+    }
+}
@@ -0,0 +1,78 @@
+package view;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only bytes addressed by {@code long} position, backed by one or more ByteBuffers.
+ *
+ * A single ByteBuffer (and a single {@code FileChannel.map}) stops at 2 GB, so
+ * files are mapped as consecutive chunks of {@code 1 << chunkBits} bytes. Each
+ * chunk also maps the {@link #OVERLAP} bytes after it, so any read of up to that
+ * many bytes is served by the chunk it starts in and never straddles two.
+ */
+final class ChunkedBuffer {
+
+    static final int DEFAULT_CHUNK_BITS = 30;
+    // At least the longest single read: one record of at most 65535 bytes, or an index entry.
+    static final int OVERLAP = 1 << 16;
+
+    private final ByteBuffer[] chunks;
+    private final int chunkBits;
+    private final long chunkMask;
+    private final long size;
+
+    private ChunkedBuffer(ByteBuffer[] chunks, int chunkBits, long size) {
+        this.chunks = chunks;
+        this.chunkBits = chunkBits;
+        this.chunkMask = (1L << chunkBits) - 1;
+        this.size = size;
+    }
+
+    static ChunkedBuffer wrap(ByteBuffer buffer) {
+        return new ChunkedBuffer(new ByteBuffer[]{buffer}, 31, buffer.limit());
+    }
+
+    static ChunkedBuffer map(Path file, int chunkBits) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long chunkSize = 1L << chunkBits;
+            int count = (int) Math.max(1, (size + chunkSize - 1) >>> chunkBits);
+            ByteBuffer[] chunks = new ByteBuffer[count];
+            for (int k = 0; k < count; k++) {
+                long start = k * chunkSize;
+                long length = Math.min(size - start, chunkSize + OVERLAP);
+                chunks[k] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            return new ChunkedBuffer(chunks, chunkBits, size);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte get(long position) {
+        return chunks[(int) (position >>> chunkBits)].get((int) (position & chunkMask));
+    }
+
+    short getShort(long position) {
+        return chunks[(int) (position >>> chunkBits)].getShort((int) (position & chunkMask));
+    }
+
+    int getInt(long position) {
+        return chunks[(int) (position >>> chunkBits)].getInt((int) (position & chunkMask));
+    }
+
+    long getLong(long position) {
+        return chunks[(int) (position >>> chunkBits)].getLong((int) (position & chunkMask));
+    }
+
+    // At most OVERLAP bytes.
+    void get(long position, byte[] destination) {
+        chunks[(int) (position >>> chunkBits)].get((int) (position & chunkMask), destination);
+    }
+}
@@ -0,0 +1,308 @@
+package view;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records stored as UTF-8 field bytes in one buffer, addressed through an index.
+ *
+ * Every record has an index entry holding the {@code long} position of its first
+ * byte in the data area and, per field, the unsigned 16-bit end of that field
+ * within the record, so nothing is decoded until an accessor asks for it. The
+ * buffer can live on the heap or be memory-mapped from a file written by
+ * {@link #write(Path)} or a {@link Writer}. Mapped files are read in 1 GB chunks,
+ * so their size is not limited to 2 GB; records are limited to 65535 bytes each.
+ *
+ * File layout (big-endian): magic, field count, record count, data length (long),
+ * {@code records} index entries of {@code 8 + 2 * fields} bytes, then the data bytes.
+ */
+public abstract class RecordBuffer {
+
+    static final int MAGIC = 0x53564232; // "SVB2"
+    private static final int HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES;
+    private static final int MAX_RECORD_BYTES = 0xFFFF;
+
+    private final int fieldCount;
+    private final int entryBytes;
+    private final int size;
+    private final long dataStart;
+    private final ChunkedBuffer buffer;
+
+    protected RecordBuffer(int fieldCount, List<String[]> rows) {
+        this.fieldCount = fieldCount;
+        this.entryBytes = entryBytes(fieldCount);
+        this.size = rows.size();
+        byte[][] encoded = new byte[size * fieldCount][];
+        long dataLength = 0;
+        for (int r = 0; r < size; r++) {
+            String[] row = rows.get(r);
+            int recordLength = 0;
+            for (int f = 0; f < fieldCount; f++) {
+                byte[] field = row[f] == null ? new byte[0] : row[f].getBytes(StandardCharsets.UTF_8);
+                encoded[r * fieldCount + f] = field;
+                recordLength += field.length;
+            }
+            checkRecordLength(recordLength, r);
+            dataLength += recordLength;
+        }
+        this.dataStart = HEADER_BYTES + (long) size * entryBytes;
+        if (dataStart + dataLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too large for an on-heap record buffer; stream it to a file with a Writer");
+        }
+        ByteBuffer bytes = ByteBuffer.allocate((int) (dataStart + dataLength));
+        bytes.putInt(MAGIC).putInt(fieldCount).putInt(size).putLong(dataLength);
+        long position = 0;
+        for (int r = 0; r < size; r++) {
+            bytes.putLong(position);
+            int end = 0;
+            for (int f = 0; f < fieldCount; f++) {
+                end += encoded[r * fieldCount + f].length;
+                bytes.putShort((short) end);
+            }
+            position += end;
+        }
+        for (byte[] field : encoded) {
+            bytes.put(field);
+        }
+        this.buffer = ChunkedBuffer.wrap(bytes.flip());
+    }
+
+    protected RecordBuffer(int fieldCount, ChunkedBuffer file) throws IOException {
+        if (file.size() < HEADER_BYTES || file.getInt(0) != MAGIC || file.getInt(4) != fieldCount) {
+            throw new IOException("Not a record buffer with " + fieldCount + " fields");
+        }
+        this.fieldCount = fieldCount;
+        this.entryBytes = entryBytes(fieldCount);
+        this.size = file.getInt(8);
+        this.dataStart = HEADER_BYTES + (long) size * entryBytes;
+        if (dataStart + file.getLong(12) != file.size()) {
+            throw new IOException("Record buffer is truncated: expected " + (dataStart + file.getLong(12))
+                    + " bytes but found " + file.size());
+        }
+        this.buffer = file;
+    }
+
+    static ChunkedBuffer mapFile(Path file) throws IOException {
+        return ChunkedBuffer.map(file, ChunkedBuffer.DEFAULT_CHUNK_BITS);
+    }
+
+    public void write(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            byte[] chunk = new byte[ChunkedBuffer.OVERLAP];
+            for (long position = 0; position < buffer.size(); position += chunk.length) {
+                int length = (int) Math.min(chunk.length, buffer.size() - position);
+                if (length < chunk.length) {
+                    chunk = new byte[length];
+                }
+                buffer.get(position, chunk);
+                out.write(chunk, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Writes the file format record by record, for datasets too large to build in memory.
+     *
+     * Field bytes are spooled to a temporary file while the index is collected.
+     * {@link #commit()} assembles both into a temporary file next to the target and
+     * moves it into place atomically; {@link #close()} without a commit, or after a
+     * failed append, only deletes the spools, so the target is never left truncated.
+     */
+    public static class Writer implements AutoCloseable {
+
+        private final Path file;
+        private final int fieldCount;
+        private final Path spool;
+        private final OutputStream data;
+        private final Path indexSpool;
+        private final DataOutputStream index;
+        private final byte[][] encoded;
+        private long position;
+        private int size;
+        private boolean failed;
+        private boolean committed;
+
+        protected Writer(Path file, int fieldCount) throws IOException {
+            this.file = file;
+            this.fieldCount = fieldCount;
+            this.encoded = new byte[fieldCount][];
+            Path directory = file.toAbsolutePath().getParent();
+            this.spool = Files.createTempFile(directory, "records", ".data");
+            this.indexSpool = Files.createTempFile(directory, "records", ".index");
+            this.data = new BufferedOutputStream(Files.newOutputStream(spool));
+            this.index = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexSpool)));
+        }
+
+        public void append(String... fields) throws IOException {
+            checkOpen();
+            if (fields.length != fieldCount) {
+                throw new IllegalArgumentException("Expected " + fieldCount + " fields but got " + fields.length);
+            }
+            if (size == Integer.MAX_VALUE) {
+                throw new IOException("Record buffer " + file + " is full at " + size + " records");
+            }
+            int recordLength = 0;
+            for (int f = 0; f < fieldCount; f++) {
+                encoded[f] = fields[f] == null ? new byte[0] : fields[f].getBytes(StandardCharsets.UTF_8);
+                recordLength += encoded[f].length;
+            }
+            checkRecordLength(recordLength, size);
+            // A write that fails part way leaves the spools out of step, so nothing more is accepted.
+            failed = true;
+            index.writeLong(position);
+            int end = 0;
+            for (byte[] field : encoded) {
+                end += field.length;
+                index.writeShort(end);
+                data.write(field);
+            }
+            failed = false;
+            position += recordLength;
+            size++;
+        }
+
+        // Publishes every record appended so far as the target file, replacing any previous one.
+        public void commit() throws IOException {
+            checkOpen();
+            committed = true;
+            data.close();
+            index.close();
+            Path assembled = Files.createTempFile(spool.getParent(), "records", ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(assembled)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(fieldCount);
+                    out.writeInt(size);
+                    out.writeLong(position);
+                    Files.copy(indexSpool, out);
+                    Files.copy(spool, out);
+                }
+                Files.move(assembled, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(assembled);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                data.close();
+                index.close();
+            } finally {
+                Files.deleteIfExists(spool);
+                Files.deleteIfExists(indexSpool);
+            }
+        }
+
+        private void checkOpen() {
+            if (failed) {
+                throw new IllegalStateException("An earlier append to " + file + " failed");
+            }
+            if (committed) {
+                throw new IllegalStateException("Record buffer " + file + " is already committed");
+            }
+        }
+    }
+
+    // Encodes a filter value once so scans can compare it against raw field bytes.
+    public static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Absolute position of the field's first byte.
+    long start(int record, int field) {
+        long entry = entry(record);
+        return dataStart + buffer.getLong(entry) + (field == 0 ? 0 : end(entry, field - 1));
+    }
+
+    int length(int record, int field) {
+        long entry = entry(record);
+        return end(entry, field) - (field == 0 ? 0 : end(entry, field - 1));
+    }
+
+    byte byteAt(long position) {
+        return buffer.get(position);
+    }
+
+    String string(int record, int field) {
+        byte[] bytes = new byte[length(record, field)];
+        buffer.get(start(record, field), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    boolean bytesEqual(int record, int field, byte[] utf8) {
+        if (length(record, field) != utf8.length) {
+            return false;
+        }
+        long start = start(record, field);
+        for (int i = 0; i < utf8.length; i++) {
+            if (buffer.get(start + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Case folding covers ASCII only; other bytes must match exactly.
+    boolean bytesEqualIgnoreCase(int record, int field, byte[] utf8) {
+        if (length(record, field) != utf8.length) {
+            return false;
+        }
+        long start = start(record, field);
+        for (int i = 0; i < utf8.length; i++) {
+            if (lower(buffer.get(start + i)) != lower(utf8[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Parses an optionally signed decimal integer without allocating.
+    int parseInt(int record, int field) {
+        long start = start(record, field);
+        long end = start + length(record, field);
+        boolean negative = end > start && buffer.get(start) == '-';
+        int value = 0;
+        for (long i = negative ? start + 1 : start; i < end; i++) {
+            value = value * 10 + (buffer.get(i) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private long entry(int record) {
+        Objects.checkIndex(record, size);
+        return HEADER_BYTES + (long) record * entryBytes;
+    }
+
+    private int end(long entry, int field) {
+        return Short.toUnsignedInt(buffer.getShort(entry + Long.BYTES + 2L * field));
+    }
+
+    private static int entryBytes(int fieldCount) {
+        return Long.BYTES + 2 * fieldCount;
+    }
+
+    private static void checkRecordLength(int recordLength, int record) {
+        if (recordLength > MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("Record " + record + " has " + recordLength
+                    + " bytes; records are limited to " + MAX_RECORD_BYTES);
+        }
+    }
+
+    private static byte lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+}
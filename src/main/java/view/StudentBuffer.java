@@ -0,0 +1,69 @@
+package view;
+
+import domain.Student;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Students packed into a {@link RecordBuffer}; read them through a {@link StudentView}.
+ */
+public class StudentBuffer extends RecordBuffer {
+
+    static final int ID = 0;
+    static final int FIRST_NAME = 1;
+    static final int LAST_NAME = 2;
+    static final int EMAIL = 3;
+    static final int GENDER = 4;
+    static final int DOB = 5;
+    private static final int FIELDS = 6;
+
+    private StudentBuffer(List<String[]> rows) {
+        super(FIELDS, rows);
+    }
+
+    private StudentBuffer(ChunkedBuffer file) throws IOException {
+        super(FIELDS, file);
+    }
+
+    public static StudentBuffer of(List<Student> students) {
+        return new StudentBuffer(students.stream()
+                .map(student -> new String[]{
+                        String.valueOf(student.getId()),
+                        student.getFirst_name(),
+                        student.getLast_name(),
+                        student.getEmail(),
+                        student.getGender(),
+                        student.getDob().toString()})
+                .toList());
+    }
+
+    // Memory-maps a file previously produced by write(Path).
+    public static StudentBuffer map(Path file) throws IOException {
+        return new StudentBuffer(mapFile(file));
+    }
+
+    // Smaller chunks let tests cover reads near chunk boundaries without multi-GB files.
+    static StudentBuffer map(Path file, int chunkBits) throws IOException {
+        return new StudentBuffer(ChunkedBuffer.map(file, chunkBits));
+    }
+
+    // Streams records to a file that map(Path) can read once committed; fields in the order of the constants above.
+    public static Writer writer(Path file) throws IOException {
+        return new Writer(file, FIELDS);
+    }
+
+    public StudentView view() {
+        return new StudentView(this);
+    }
+
+    public Student materialize(int record) {
+        return new Student(parseInt(record, ID),
+                string(record, FIRST_NAME),
+                string(record, LAST_NAME),
+                string(record, EMAIL),
+                string(record, GENDER),
+                string(record, DOB));
+    }
+}
@@ -0,0 +1,80 @@
+package view;
+
+import domain.Student;
+
+import java.time.LocalDate;
+
+/**
+ * A reusable cursor over one record of a {@link StudentBuffer}.
+ *
+ * Move it with {@link #moveTo(int)}; each getter decodes only its own field,
+ * and the {@code is...} methods compare raw UTF-8 bytes without decoding at all.
+ */
+public class StudentView {
+
+    private final StudentBuffer buffer;
+    private int record;
+
+    StudentView(StudentBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public StudentView moveTo(int record) {
+        this.record = record;
+        return this;
+    }
+
+    public int getRecord() {
+        return record;
+    }
+
+    public int getId() {
+        return buffer.parseInt(record, StudentBuffer.ID);
+    }
+
+    public String getFirst_name() {
+        return buffer.string(record, StudentBuffer.FIRST_NAME);
+    }
+
+    public String getLast_name() {
+        return buffer.string(record, StudentBuffer.LAST_NAME);
+    }
+
+    public String getEmail() {
+        return buffer.string(record, StudentBuffer.EMAIL);
+    }
+
+    public boolean hasEmail() {
+        return buffer.length(record, StudentBuffer.EMAIL) > 0;
+    }
+
+    public String getGender() {
+        return buffer.string(record, StudentBuffer.GENDER);
+    }
+
+    public boolean isGender(byte[] utf8Gender) {
+        return buffer.bytesEqual(record, StudentBuffer.GENDER, utf8Gender);
+    }
+
+    public boolean isGenderIgnoreCase(byte[] utf8Gender) {
+        return buffer.bytesEqualIgnoreCase(record, StudentBuffer.GENDER, utf8Gender);
+    }
+
+    // dob is stored as yyyy-MM-dd, so the parts can be read straight from the bytes.
+    public LocalDate getDob() {
+        long start = buffer.start(record, StudentBuffer.DOB);
+        return LocalDate.of(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2));
+    }
+
+    public Student toStudent() {
+        return buffer.materialize(record);
+    }
+
+    private int digits(long position, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            value = value * 10 + (buffer.byteAt(position + i) - '0');
+        }
+        return value;
+    }
+}
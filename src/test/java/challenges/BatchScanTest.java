@@ -0,0 +1,82 @@
+package challenges;
+
+import data.FetchData;
+import domain.Car;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchScanTest {
+
+    private static List<Car> cars;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        cars = FetchData.getCarList();
+    }
+
+    @Test
+    void shouldAnswerAllQueriesFromOnePass() {
+        BatchScan<Car> batch = new BatchScan<>();
+        BatchScan.Result<List<Car>> fords = batch.collect(
+                Collectors.filtering(car -> car.getMake().equalsIgnoreCase("Ford"), Collectors.toList()));
+        BatchScan.Result<Map<String, Long>> byMake = batch.collect(
+                Collectors.groupingBy(Car::getMake, Collectors.counting()));
+        BatchScan.Result<Double> sum = batch.collect(Collectors.summingDouble(Car::getPrice));
+        BatchScan.Result<Boolean> anyBlue = batch.anyMatch(car -> car.getColor().equalsIgnoreCase("blue"));
+        BatchScan.Result<Boolean> noSonata = batch.noneMatch(car -> car.getModel().equalsIgnoreCase("Sonata"));
+        BatchScan.Result<Boolean> allCheap = batch.allMatch(car -> car.getPrice() < 1);
+        BatchScan.Result<Optional<Car>> first2010 = batch.findFirst(car -> car.getYear() == 2010);
+        BatchScan.Result<List<Car>> top3 = batch.topK(3, Comparator.comparingDouble(Car::getPrice));
+
+        batch.run(cars);
+
+        assertThat(fords.get()).isEqualTo(CarOps.carWithSpecificMake(cars));
+        assertThat(byMake.get()).isEqualTo(CarOps.countCarsByMake(cars));
+        assertThat(sum.get()).isEqualTo(cars.stream().mapToDouble(Car::getPrice).sum());
+        assertThat(anyBlue.get()).isEqualTo(CarOps.carsWithBlueColor(cars));
+        assertThat(noSonata.get()).isEqualTo(CarOps.isThisConditionMatch(cars));
+        assertThat(allCheap.get()).isFalse();
+        assertThat(first2010.get()).isEqualTo(CarOps.carWithSpecificYear(cars).stream().findFirst());
+        assertThat(top3.get()).isEqualTo(CarOps.sortCarByPriceDescending(cars).subList(0, 3));
+    }
+
+    @Test
+    void shouldGiveSameResultsWhenSplitIntoChunks() {
+        // 4000 distinct cars with ascending ids, so order and identity mistakes show up.
+        List<Car> many = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            for (Car car : cars) {
+                many.add(new Car(many.size() + 1, car.getMake(), car.getModel(), car.getYear(), car.getPrice(), car.getColor()));
+            }
+        }
+        int lateId = many.size() - 10;
+        BatchScan<Car> batch = new BatchScan<>();
+        BatchScan.Result<List<Integer>> ids = batch.collect(Collectors.mapping(Car::getId, Collectors.toList()));
+        BatchScan.Result<Long> expensive = batch.count(car -> car.getPrice() > 50000);
+        BatchScan.Result<Boolean> allPriced = batch.allMatch(car -> car.getPrice() > 0);
+        BatchScan.Result<Optional<Car>> late = batch.findFirst(car -> car.getId() == lateId);
+        // Matches in the fourth and seventh of eight chunks; the earlier chunk must win.
+        BatchScan.Result<Optional<Car>> earliest = batch.findFirst(car -> car.getId() == 1800 || car.getId() == 3100);
+        BatchScan.Result<List<Car>> top3 = batch.topK(3, Comparator.comparingDouble(Car::getPrice).thenComparing(Car::getId));
+
+        for (int chunks : new int[]{1, 3, 8, 64}) {
+            batch.runParallel(many, chunks);
+
+            assertThat(ids.get()).isEqualTo(many.stream().map(Car::getId).toList());
+            assertThat(expensive.get()).isEqualTo(many.stream().filter(car -> car.getPrice() > 50000).count());
+            assertThat(allPriced.get()).isTrue();
+            assertThat(late.get()).containsSame(many.get(lateId - 1));
+            assertThat(earliest.get()).containsSame(many.get(1799));
+            assertThat(top3.get()).isEqualTo(many.stream()
+                    .sorted(Comparator.comparingDouble(Car::getPrice).thenComparing(Car::getId).reversed())
+                    .limit(3)
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package challenges;
+
+import data.FetchData;
+import domain.Car;
+import domain.Student;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class RunningStatsTest {
+
+    private static List<Student> students;
+    private static List<Car> cars;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        students = FetchData.getStudentList();
+        cars = FetchData.getCarList();
+    }
+
+    @Test
+    void shouldMatchTwoPassStatistics() {
+        double[] values = {3, 7, 7, 19, 24, 1e9 + 4, 1e9 + 7};
+        RunningStats stats = new RunningStats();
+        DoubleStream.of(values).forEach(stats);
+
+        double mean = DoubleStream.of(values).average().orElseThrow();
+        double variance = DoubleStream.of(values).map(v -> (v - mean) * (v - mean)).average().orElseThrow();
+
+        assertThat(stats.getCount()).isEqualTo(values.length);
+        assertThat(stats.getMean()).isCloseTo(mean, within(1e-6));
+        assertThat(stats.getVariance()).isCloseTo(variance, within(variance * 1e-12));
+        assertThat(stats.getMin()).isEqualTo(3);
+        assertThat(stats.getMax()).isEqualTo(1e9 + 7);
+    }
+
+    @Test
+    void shouldMergePartialResults() {
+        RunningStats whole = new RunningStats();
+        RunningStats left = new RunningStats();
+        RunningStats right = new RunningStats();
+        for (int i = 0; i < 1000; i++) {
+            whole.accept(i * 0.5);
+            (i < 300 ? left : right).accept(i * 0.5);
+        }
+
+        RunningStats merged = left.copy().combine(right);
+
+        assertThat(merged.getCount()).isEqualTo(whole.getCount());
+        assertThat(merged.getMean()).isCloseTo(whole.getMean(), within(1e-9));
+        assertThat(merged.getVariance()).isCloseTo(whole.getVariance(), within(1e-6));
+        assertThat(merged.getMin()).isEqualTo(whole.getMin());
+        assertThat(merged.getMax()).isEqualTo(whole.getMax());
+        assertThat(new RunningStats().combine(new RunningStats()).getCount()).isZero();
+    }
+
+    @Test
+    void shouldReportZeroForEveryStatisticWhenEmpty() {
+        RunningStats empty = new RunningStats();
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(List.of(empty.getMean(), empty.getSum(), empty.getVariance(), empty.getSampleVariance(),
+                empty.getStdDev(), empty.getMin(), empty.getMax())).containsOnly(0.0);
+
+        RunningStats negative = new RunningStats();
+        negative.accept(-5);
+        negative.combine(new RunningStats());
+        assertThat(negative.isEmpty()).isFalse();
+        assertThat(negative.getMin()).isEqualTo(-5);
+        assertThat(negative.getMax()).isEqualTo(-5);
+        assertThat(new RunningStats().combine(negative).getMax()).isEqualTo(-5);
+    }
+
+    @Test
+    void shouldComputeAgeStatsInParallel() {
+        LocalDate today = LocalDate.now();
+        RunningStats sequential = StudentOps.ageStats(students);
+        RunningStats parallel = students.parallelStream()
+                .collect(RunningStats.collector(s -> Period.between(s.getDob(), today).getYears()));
+
+        assertThat(sequential.getCount()).isEqualTo(students.size());
+        assertThat(parallel.getMean()).isCloseTo(sequential.getMean(), within(1e-9));
+        assertThat(StudentOps.averageAge(students)).isCloseTo(sequential.getMean(), within(1e-9));
+        assertThat(StudentOps.stdDev(students)).isCloseTo(parallel.getStdDev(), within(1e-9));
+        assertThat(StudentOps.ageSum(students)).isEqualTo((int) sequential.getSum());
+    }
+
+    @Test
+    void shouldComputeCarPriceStats() {
+        RunningStats prices = CarOps.priceStats(cars);
+
+        assertThat(prices.getCount()).isEqualTo(cars.size());
+        assertThat(prices.getMean()).isCloseTo(CarOps.averagePriceOfCars(cars), within(1e-6));
+        assertThat(prices.getMax()).isEqualTo(CarOps.getTheHighestPricedCar(cars).orElseThrow().getPrice());
+        assertThat(CarOps.yearStats(cars).getMin()).isGreaterThan(1900);
+    }
+}
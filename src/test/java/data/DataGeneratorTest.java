@@ -0,0 +1,81 @@
+package data;
+
+import domain.Car;
+import domain.Student;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import view.CarBuffer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataGeneratorTest {
+
+    @Test
+    void shouldGenerateTheSameRowsForTheSameSeed(@TempDir Path dir) throws IOException {
+        DataGenerator generator = new DataGenerator(new DataGenerator.Config().withSeed(7));
+        Path whole = dir.resolve("whole.json");
+        Path tail = dir.resolve("tail.json");
+        generator.writeCars(0, 200, DataGenerator.Format.JSON, whole);
+        new DataGenerator(new DataGenerator.Config().withSeed(7)).writeCars(150, 50, DataGenerator.Format.JSON, tail);
+
+        List<Car> cars = FetchData.getCarList(whole);
+        assertThat(cars).hasSize(200);
+        assertThat(FetchData.getCarList(tail)).isEqualTo(cars.subList(150, 200));
+        assertThat(new DataGenerator(new DataGenerator.Config().withSeed(8)).car(0)).isNotEqualTo(cars.get(0));
+    }
+
+    @Test
+    void shouldNotShareRowsBetweenSeeds() throws IOException {
+        Map<List<Object>, Long> seen = new HashMap<>();
+        for (long seed : new long[]{7, 8, 38, 69, 7 + (1L << 32)}) {
+            DataGenerator generator = new DataGenerator(new DataGenerator.Config().withSeed(seed));
+            for (long row = 0; row < 2000; row++) {
+                Car car = generator.car(row);
+                List<Object> withoutId = List.of(car.getMake(), car.getModel(), car.getYear(), car.getPrice(), car.getColor());
+                Long other = seen.putIfAbsent(withoutId, seed);
+                assertThat(other).as("seed %d row %d repeats seed %s", seed, row, other).isNull();
+            }
+        }
+    }
+
+    @Test
+    void shouldWriteEveryFormatWithConfiguredDistributions(@TempDir Path dir) throws IOException {
+        DataGenerator generator = new DataGenerator(new DataGenerator.Config()
+                .withYears(2000, 2005)
+                .withPrices(20_000, 0.5, 5_000, 90_000)
+                .withDobRange(LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31))
+                .withGenderMix(Map.of("Female", 1.0)));
+        Path json = dir.resolve("students.json");
+        Path ndjson = dir.resolve("cars.ndjson");
+        Path binary = dir.resolve("cars.svb");
+        generator.writeStudents(0, 300, DataGenerator.Format.JSON, json);
+        generator.writeCars(0, 300, DataGenerator.Format.NDJSON, ndjson);
+        generator.writeCars(0, 300, DataGenerator.Format.BINARY, binary);
+
+        List<Student> students = FetchData.getStudentList(json);
+        assertThat(students).allMatch(s -> s.getGender().equals("Female")
+                && s.getDob().getYear() >= 1990 && s.getDob().getYear() <= 1999);
+        assertThat(students.stream().map(Student::getEmail).distinct()).hasSize(300);
+
+        List<String> lines = Files.readAllLines(ndjson);
+        assertThat(lines).hasSize(300);
+        assertThat(lines.get(42)).startsWith("{\"id\":43,");
+
+        CarBuffer cars = CarBuffer.map(binary);
+        assertThat(cars.size()).isEqualTo(300);
+        for (int i = 0; i < cars.size(); i++) {
+            Car car = cars.materialize(i);
+            assertThat(car).isEqualTo(generator.car(i));
+            assertThat(car.getYear()).isBetween(2000, 2005);
+            assertThat(car.getPrice()).isBetween(5_000.0, 90_000.0);
+        }
+    }
+}
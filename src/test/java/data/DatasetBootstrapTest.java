@@ -0,0 +1,49 @@
+package data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DatasetBootstrapTest {
+
+    @Test
+    void shouldLoadOnlyWhatIsUsed() throws IOException {
+        DatasetBootstrap bootstrap = DatasetBootstrap.fromResources();
+        assertThat(bootstrap.timings()).isEmpty();
+
+        assertThat(bootstrap.cars()).isEqualTo(FetchData.getCarList());
+        assertThat(bootstrap.timings()).extracting(DatasetBootstrap.Timing::stage).containsExactly("cars");
+    }
+
+    @Test
+    void shouldPreloadDatasetsButNotIndexes() throws IOException {
+        DatasetBootstrap bootstrap = DatasetBootstrap.fromResources().preload();
+        assertThat(bootstrap.students()).isEqualTo(FetchData.getStudentList());
+        assertThat(bootstrap.cars()).isEqualTo(FetchData.getCarList());
+
+        assertThat(bootstrap.timings()).extracting(DatasetBootstrap.Timing::stage)
+                .containsExactlyInAnyOrder("cars", "students");
+    }
+
+    @Test
+    void shouldLoadEachStageOnceUnderConcurrentUse() throws IOException {
+        DatasetBootstrap bootstrap = DatasetBootstrap.fromResources().preload().preloadIndexes();
+        List<CompletableFuture<Object>> callers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> (Object) bootstrap.dobIndex()))
+                .toList();
+        callers.forEach(CompletableFuture::join);
+
+        assertThat(callers).extracting(CompletableFuture::join).containsOnly(bootstrap.dobIndex());
+        assertThat(bootstrap.students()).isEqualTo(FetchData.getStudentList());
+        bootstrap.studentSearchIndex();
+        bootstrap.cars();
+        assertThat(bootstrap.timings()).extracting(DatasetBootstrap.Timing::stage)
+                .containsExactlyInAnyOrder("cars", "students", "student search index", "dob index");
+        assertThat(bootstrap.report()).contains("cars", "students", "dob index", "wall time");
+    }
+}
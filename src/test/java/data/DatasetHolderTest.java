@@ -0,0 +1,113 @@
+package data;
+
+import com.google.gson.JsonParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DatasetHolderTest {
+
+    private static final String CAR_1 = "{\"id\":1,\"make\":\"Nissan\",\"model\":\"Rogue\",\"year\":2008,\"price\":221494.84,\"color\":\"Green\"}";
+    private static final String CAR_2 = "{\"id\":2,\"make\":\"Toyota\",\"model\":\"Land Cruiser\",\"year\":1994,\"price\":214915.72,\"color\":\"Crimson\"}";
+    private static final String CAR_2_BLUE = CAR_2.replace("Crimson", "Blue");
+    private static final String STUDENT_1 = "{\"id\":1,\"first_name\":\"Kaitlyn\",\"last_name\":\"Padden\",\"email\":\"kpadden0@utexas.edu\",\"gender\":\"Female\",\"dob\":\"1986-01-20\"}";
+
+    @TempDir
+    Path dir;
+    private Path carsFile;
+    private Path studentsFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        carsFile = dir.resolve("cars.json");
+        studentsFile = dir.resolve("students.json");
+        write(carsFile, "[" + CAR_1 + "," + CAR_2 + "]");
+        write(studentsFile, "[" + STUDENT_1 + "]");
+    }
+
+    @Test
+    void shouldSwapSnapshotAndKeepUnchangedRecords() throws IOException {
+        try (DatasetHolder holder = new DatasetHolder(carsFile, studentsFile)) {
+            DatasetSnapshot first = holder.current();
+            assertThat(holder.reload()).isSameAs(first);
+
+            write(carsFile, "[" + CAR_1 + "," + CAR_2_BLUE + "]");
+            DatasetSnapshot second = holder.reload();
+
+            assertThat(second.getVersion()).isEqualTo(first.getVersion() + 1);
+            assertThat(holder.current()).isSameAs(second);
+            assertThat(second.getCars().get(0)).isSameAs(first.getCars().get(0));
+            assertThat(second.getCars().get(1).getColor()).isEqualTo("Blue");
+            assertThat(second.getStudents()).isSameAs(first.getStudents());
+            assertThat(first.getCars().get(1).getColor()).isEqualTo("Crimson");
+        }
+    }
+
+    @Test
+    void shouldReloadSameSizeRewriteThatKeepsTheOldMtime() throws IOException {
+        try (DatasetHolder holder = new DatasetHolder(carsFile, studentsFile)) {
+            FileTime mtime = Files.getLastModifiedTime(carsFile);
+            String recolored = "[" + CAR_1 + "," + CAR_2.replace("Crimson", "Magenta") + "]";
+            assertThat(recolored).hasSameSizeAs("[" + CAR_1 + "," + CAR_2 + "]");
+
+            write(carsFile, recolored);
+            Files.setLastModifiedTime(carsFile, mtime);
+
+            assertThat(holder.reload().getCars().get(1).getColor()).isEqualTo("Magenta");
+            assertThat(holder.current().getVersion()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldKeepOldSnapshotWhenFileFailsToParse() throws IOException {
+        try (DatasetHolder holder = new DatasetHolder(carsFile, studentsFile)) {
+            DatasetSnapshot first = holder.current();
+
+            write(carsFile, "");
+            assertThatThrownBy(holder::reload).isInstanceOf(JsonParseException.class);
+            write(carsFile, "[" + CAR_1 + ",null]");
+            assertThatThrownBy(holder::reload).isInstanceOf(JsonParseException.class);
+            write(studentsFile, "[" + STUDENT_1.replace("1986-01-20", "1986-13-45") + "]");
+            assertThatThrownBy(holder::reload).isInstanceOf(RuntimeException.class);
+
+            assertThat(holder.current()).isSameAs(first);
+        }
+    }
+
+    @Test
+    void shouldKeepWatchingAfterABadFile() throws Exception {
+        try (DatasetHolder holder = new DatasetHolder(carsFile, studentsFile)) {
+            holder.watch();
+
+            write(carsFile, "");
+            Thread.sleep(500);
+            assertThat(holder.current().getVersion()).isEqualTo(1);
+
+            write(carsFile, "[" + CAR_2_BLUE + "]");
+            awaitTrue(() -> holder.current().getVersion() == 2);
+            assertThat(holder.current().getCars()).hasSize(1);
+        }
+    }
+
+    private static void write(Path file, String json) throws IOException {
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out waiting for reload").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
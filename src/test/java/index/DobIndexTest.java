@@ -0,0 +1,95 @@
+package index;
+
+import challenges.StudentOps;
+import data.FetchData;
+import domain.Student;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DobIndexTest {
+
+    private static List<Student> students;
+    private static DobIndex index;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        students = FetchData.getStudentList();
+        index = DobIndex.of(students);
+    }
+
+    @Test
+    void shouldMatchScanningStudentOps() {
+        assertThat(new HashSet<>(StudentOps.adultList(index))).isEqualTo(new HashSet<>(StudentOps.adultList(students)));
+        assertThat(StudentOps.allAdult(index)).isEqualTo(StudentOps.allAdult(students));
+        assertThat(StudentOps.computeAgeDistribution(index)).isEqualTo(StudentOps.computeAgeDistribution(students));
+        Map<Integer, List<Student>> expectedGroups = StudentOps.groupByAge(students);
+        assertThat(StudentOps.groupByAge(index).keySet()).isEqualTo(expectedGroups.keySet());
+        assertThat(StudentOps.groupByAge(index)).allSatisfy((age, group) ->
+                assertThat(new HashSet<>(group)).isEqualTo(new HashSet<>(expectedGroups.get(age))));
+        assertThat(StudentOps.youngestFemale(index).orElseThrow().getAge())
+                .isEqualTo(StudentOps.youngestFemale(students).orElseThrow().getAge());
+        assertThat(index.oldest().orElseThrow().getAge()).isEqualTo(StudentOps.maxAge(students).orElseThrow().getAge());
+    }
+
+    @Test
+    void shouldCountDobRangesAndGenders() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(1999, 12, 31);
+
+        assertThat(index.countBornBetween(from, to)).isEqualTo(students.stream()
+                .filter(s -> !s.getDob().isBefore(from) && !s.getDob().isAfter(to))
+                .count());
+        assertThat(index.forGender("Male").size()).isEqualTo(StudentOps.countStudents(students).get("Male").intValue());
+        assertThat(index.forGender("Other").size()).isZero();
+    }
+
+    @Test
+    void shouldFindBirthdaysAcrossTheYearEnd() {
+        LocalDate today = LocalDate.of(2023, 12, 20);
+        List<Student> upcoming = index.birthdaysWithin(today, 30);
+
+        List<Student> expected = students.stream()
+                .filter(s -> {
+                    LocalDate next = s.getDob().withYear(today.getYear());
+                    if (next.isBefore(today)) {
+                        next = s.getDob().withYear(today.getYear() + 1);
+                    }
+                    return Period.between(today, next).toTotalMonths() < 2 && next.isBefore(today.plusDays(30));
+                })
+                .toList();
+        assertThat(new HashSet<>(upcoming)).isEqualTo(new HashSet<>(expected));
+        assertThat(index.birthdaysWithin(today, 366)).hasSize(students.size());
+        assertThat(index.birthdaysWithin(today, 0)).isEmpty();
+    }
+
+    @Test
+    void shouldCelebrateLeapDayBirthdaysOnFeb28InCommonYears() {
+        Student leapDay = new Student(1, "Leap", "Day", "leap@example.com", "Female", "2000-02-29");
+        Student feb28 = new Student(2, "Feb", "End", "feb@example.com", "Male", "1999-02-28");
+        Student march1 = new Student(3, "March", "First", "march@example.com", "Female", "1998-03-01");
+        DobIndex leap = DobIndex.of(List.of(leapDay, feb28, march1));
+
+        // 2023 is a common year: the window ending Feb 28 includes Feb 29 birthdays.
+        assertThat(leap.birthdaysWithin(LocalDate.of(2023, 2, 27), 2)).containsExactly(feb28, leapDay);
+        assertThat(leap.birthdaysWithin(LocalDate.of(2023, 2, 28), 1)).containsExactly(feb28, leapDay);
+        assertThat(leap.birthdaysWithin(LocalDate.of(2023, 3, 1), 1)).containsExactly(march1);
+        // Wrapping into a common year's February.
+        assertThat(leap.birthdaysWithin(LocalDate.of(2022, 12, 31), 60)).containsExactly(feb28, leapDay);
+
+        // 2024 is a leap year: Feb 29 is its own day.
+        assertThat(leap.birthdaysWithin(LocalDate.of(2024, 2, 27), 2)).containsExactly(feb28);
+        assertThat(leap.birthdaysWithin(LocalDate.of(2024, 2, 27), 3)).containsExactly(feb28, leapDay);
+        assertThat(leap.birthdaysWithin(LocalDate.of(2024, 2, 29), 1)).containsExactly(leapDay);
+        // From Mar 1, 2023, the next Feb 29 is day 366 of the window.
+        assertThat(leap.birthdaysWithin(LocalDate.of(2023, 3, 1), 365)).containsExactly(march1, feb28);
+    }
+}
@@ -0,0 +1,51 @@
+package index;
+
+import domain.Student;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StudentSearchIndexTest {
+
+    private static final Student ANNA = new Student(1, "Anna", "Smith", "asmith@utexas.edu", "Female", "1990-01-01");
+    private static final Student ANN = new Student(2, "Ann", "Jones", "ajones@prweb.com", "Female", "1991-02-02");
+    private static final Student BOB = new Student(3, "Bob", "Annis", "bannis@UTexas.edu", "Male", "1992-03-03");
+    private static final Student ANNIE = new Student(4, "Annie", "Ann", "aann@prweb.com", "Female", "1993-04-04");
+
+    private final StudentSearchIndex index = StudentSearchIndex.of(List.of(ANNA, ANN, BOB, ANNIE));
+
+    @Test
+    void shouldMatchFirstLastAndFullNamePrefixesIgnoringCase() {
+        assertThat(index.searchByName("bO", 10)).containsExactly(BOB);
+        assertThat(index.searchByName("SMI", 10)).containsExactly(ANNA);
+        assertThat(index.searchByName("ann j", 10)).containsExactly(ANN);
+        assertThat(index.searchByName("  Anna Smith ", 10)).containsExactly(ANNA);
+        assertThat(index.searchByName("zed", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldRankExactMatchesFirstWithoutDuplicates() {
+        // ANNIE matches on "annie", "ann" and "annie ann" but is listed once.
+        assertThat(index.searchByName("Ann", 10)).containsExactly(ANN, ANNIE, ANNA, BOB);
+        assertThat(index.searchByName("Ann", 2)).containsExactly(ANN, ANNIE);
+        assertThat(index.searchByName("Ann", 0)).isEmpty();
+        assertThat(index.searchByName("Ann", -1)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnNothingForEmptyPrefix() {
+        assertThat(index.searchByName("", 10)).isEmpty();
+        assertThat(index.searchByName("   ", 10)).isEmpty();
+        assertThat(index.searchByName(null, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldLookUpEmailDomainsWithOrWithoutAt() {
+        assertThat(index.searchByEmailDomain("utexas.edu")).containsExactly(ANNA, BOB);
+        assertThat(index.searchByEmailDomain("@PRWEB.com")).containsExactly(ANN, ANNIE);
+        assertThat(index.searchByEmailDomain("example.org")).isEmpty();
+        assertThat(index.emailDomains()).containsExactlyInAnyOrder("utexas.edu", "prweb.com");
+    }
+}
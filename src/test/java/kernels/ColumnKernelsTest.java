@@ -0,0 +1,68 @@
+package kernels;
+
+import challenges.CarOps;
+import data.FetchData;
+import domain.Car;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ColumnKernelsTest {
+
+    private final ColumnKernels scalar = new ScalarKernels();
+    private final ColumnKernels vector = new VectorKernels();
+
+    @Test
+    void shouldUseVectorKernelsWhenModuleIsPresent() {
+        // surefire starts the test JVM with --add-modules jdk.incubator.vector
+        assertThat(ColumnKernels.get().name()).startsWith("vector");
+    }
+
+    @Test
+    void shouldMatchScalarKernelsIncludingTails() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int length : new int[]{0, 1, 7, 63, 64, 65, 1000, 4099}) {
+            double[] prices = random.doubles(length, 1000, 250000).toArray();
+            int[] years = random.ints(length, 1960, 2024).toArray();
+
+            assertThat(vector.sum(prices)).isCloseTo(scalar.sum(prices), within(1e-6 * (1 + scalar.sum(prices))));
+            assertThat(vector.min(prices)).isEqualTo(scalar.min(prices));
+            assertThat(vector.max(prices)).isEqualTo(scalar.max(prices));
+            assertThat(vector.countInRange(prices, 10000, 20000)).isEqualTo(scalar.countInRange(prices, 10000, 20000));
+            assertThat(vector.rangeToBitmap(prices, 10000, 20000)).isEqualTo(scalar.rangeToBitmap(prices, 10000, 20000));
+            assertThat(vector.anyInRange(prices, 10000, 20000)).isEqualTo(scalar.anyInRange(prices, 10000, 20000));
+            assertThat(vector.anyInRange(prices, 249999.9, 250000)).isEqualTo(scalar.anyInRange(prices, 249999.9, 250000));
+            assertThat(vector.anyInRange(prices, 0, 1000)).isFalse();
+            assertThat(vector.allAbove(prices, 1000)).isTrue();
+            assertThat(vector.allAbove(prices, 10000)).isEqualTo(scalar.allAbove(prices, 10000))
+                    .isEqualTo(Arrays.stream(prices).allMatch(price -> price > 10000));
+
+            assertThat(vector.sum(years)).isEqualTo(scalar.sum(years));
+            assertThat(vector.min(years)).isEqualTo(scalar.min(years));
+            assertThat(vector.max(years)).isEqualTo(scalar.max(years));
+            assertThat(vector.countInRange(years, 1990, 2010)).isEqualTo(scalar.countInRange(years, 1990, 2010));
+            assertThat(vector.rangeToBitmap(years, 1990, 2010)).isEqualTo(scalar.rangeToBitmap(years, 1990, 2010));
+        }
+    }
+
+    @Test
+    void shouldMatchListBasedCarOps() throws IOException {
+        List<Car> cars = FetchData.getCarList();
+        CarColumns columns = CarColumns.of(cars);
+
+        assertThat(CarOps.sumOfPriceOfCars(columns)).isCloseTo(CarOps.sumOfPriceOfCars(cars), within(1e-3));
+        assertThat(CarOps.averagePriceOfCars(columns)).isCloseTo(CarOps.averagePriceOfCars(cars), within(1e-6));
+        assertThat(CarOps.carWithSpecificPriceRange(columns)).isEqualTo(CarOps.carWithSpecificPriceRange(cars));
+        assertThat(CarOps.isAllCarExpensive(columns)).isEqualTo(CarOps.isAllCarExpensive(cars)).isFalse();
+        List<Car> expensive = cars.stream().filter(car -> car.getPrice() > 50000).toList();
+        assertThat(CarOps.isAllCarExpensive(CarColumns.of(expensive))).isEqualTo(CarOps.isAllCarExpensive(expensive)).isTrue();
+        List<Car> cheap = cars.stream().filter(car -> car.getPrice() <= 50000).toList();
+        assertThat(CarOps.isAllCarExpensive(CarColumns.of(cheap))).isEqualTo(CarOps.isAllCarExpensive(cheap)).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package offheap;
+
+import challenges.CarOps;
+import challenges.StudentOps;
+import data.FetchData;
+import domain.Car;
+import domain.Student;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import view.CarBuffer;
+import view.StudentBuffer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class OffHeapStoreTest {
+
+    private static List<Car> cars;
+    private static List<Student> students;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        cars = FetchData.getCarList();
+        students = FetchData.getStudentList();
+    }
+
+    @Test
+    void shouldMatchCarOps() {
+        try (OffHeapCarStore store = OffHeapCarStore.of(cars)) {
+            assertThat(store.size()).isEqualTo(cars.size());
+            assertThat(store.get(7)).isEqualTo(cars.get(7));
+            assertThat(store.filterByMake("ford")).isEqualTo(CarOps.carWithSpecificMake(cars));
+            assertThat(store.filterByPriceRange(10000, 20000)).isEqualTo(CarOps.carWithSpecificPriceRange(cars));
+            assertThat(store.countByMake()).isEqualTo(CarOps.countCarsByMake(cars));
+            assertThat(store.priceStats().getMean()).isCloseTo(CarOps.averagePriceOfCars(cars), within(1e-6));
+            assertThat(store.anyWithColor("Blue")).isEqualTo(CarOps.carsWithBlueColor(cars));
+            assertThat(store.newestCars()).isEqualTo(CarOps.newestCarFromTheList(cars));
+        }
+    }
+
+    @Test
+    void shouldMatchStudentOps() {
+        try (OffHeapStudentStore store = OffHeapStudentStore.of(students)) {
+            assertThat(store.get(0)).isEqualTo(students.get(0));
+            assertThat(store.filterByGender("Female")).isEqualTo(StudentOps.filterStudentsByGender(students, "Female"));
+            assertThat(store.countByGender()).isEqualTo(StudentOps.countStudents(students));
+            assertThat(store.listEmails()).isEqualTo(StudentOps.listEmails(students));
+            assertThat(store.ageStats().getMean()).isCloseTo(StudentOps.averageAge(students), within(1e-9));
+            assertThat(store.allAdult()).isEqualTo(StudentOps.allAdult(students));
+            assertThat(store.findById(17)).contains(StudentOps.findID(students, 17));
+        }
+    }
+
+    @Test
+    void shouldBuildTheSameStoreRowByRowOrFromRecordBuffers() {
+        try (OffHeapCarStore.Builder builder = OffHeapCarStore.builder();
+             OffHeapCarStore fromList = OffHeapCarStore.of(cars)) {
+            // Starts at 1 KB, so appending the cars grows the buffers several times.
+            cars.forEach(builder::append);
+            try (OffHeapCarStore streamed = builder.build();
+                 OffHeapCarStore fromBuffer = OffHeapCarStore.of(CarBuffer.of(cars))) {
+                for (OffHeapCarStore store : List.of(streamed, fromBuffer)) {
+                    assertThat(store.size()).isEqualTo(cars.size());
+                    assertThat(store.get(cars.size() - 1)).isEqualTo(cars.get(cars.size() - 1));
+                    assertThat(store.countByMake()).isEqualTo(CarOps.countCarsByMake(cars));
+                    assertThat(store.byteSize()).isEqualTo(fromList.byteSize());
+                }
+            }
+        }
+        try (OffHeapStudentStore.Builder builder = OffHeapStudentStore.builder()) {
+            students.forEach(builder::append);
+            try (OffHeapStudentStore streamed = builder.build();
+                 OffHeapStudentStore fromBuffer = OffHeapStudentStore.of(StudentBuffer.of(students))) {
+                for (OffHeapStudentStore store : List.of(streamed, fromBuffer)) {
+                    assertThat(store.get(students.size() - 1)).isEqualTo(students.get(students.size() - 1));
+                    assertThat(store.listEmails()).isEqualTo(StudentOps.listEmails(students));
+                    assertThat(store.countByGender()).isEqualTo(StudentOps.countStudents(students));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldCountCorrectlyOnceTheDedupeMapIsFull() {
+        int distinct = StringArea.Builder.MAX_SHARED + 100;
+        try (OffHeapCarStore.Builder builder = OffHeapCarStore.builder()) {
+            for (int i = 0; i < distinct; i++) {
+                builder.append(i, "Make" + i, "Model", 2000, 1000, "Red");
+            }
+            // Seen before the map filled up, and after: stored inline again, so a second reference.
+            builder.append(distinct, "Make0", "Model", 2000, 1000, "Red");
+            builder.append(distinct + 1, "Make" + (distinct - 1), "Model", 2000, 1000, "Red");
+            try (OffHeapCarStore store = builder.build()) {
+                Map<String, Long> counts = store.countByMake();
+                assertThat(counts).hasSize(distinct);
+                assertThat(counts.get("Make0")).isEqualTo(2);
+                assertThat(counts.get("Make" + (distinct - 1))).isEqualTo(2);
+                assertThat(store.get(distinct + 1).getMake()).isEqualTo("Make" + (distinct - 1));
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectAccessAfterClose() {
+        OffHeapCarStore store = OffHeapCarStore.of(cars);
+        store.close();
+
+        assertThatThrownBy(() -> store.price(0)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,141 @@
+package shard;
+
+import challenges.CarOps;
+import challenges.RunningStats;
+import com.google.gson.Gson;
+import data.FetchData;
+import domain.Car;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class ShardedDatasetTest {
+
+    @TempDir
+    static Path shardDir;
+
+    private static List<Car> cars;
+    private static ShardedDataset<Car> sharded;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        cars = FetchData.getCarList();
+        int shardSize = cars.size() / 3 + 1;
+        for (int from = 0, n = 0; from < cars.size(); from += shardSize, n++) {
+            List<Car> shard = cars.subList(from, Math.min(cars.size(), from + shardSize));
+            Files.writeString(shardDir.resolve("region-" + n + ".json"), new Gson().toJson(shard));
+        }
+        sharded = ShardedDataset.cars(ShardedDataset.shardsIn(shardDir));
+    }
+
+    @Test
+    void shouldMatchSingleListAggregates() {
+        RunningStats prices = sharded.stats(Car::getPrice);
+
+        assertThat(sharded.getShards()).hasSize(3);
+        assertThat(sharded.count(car -> true)).isEqualTo(cars.size());
+        assertThat(prices.getMean()).isCloseTo(CarOps.averagePriceOfCars(cars), within(1e-6));
+        assertThat(sharded.sum(Car::getPrice)).isCloseTo(CarOps.sumOfPriceOfCars(cars), within(1e-3));
+        assertThat(sharded.max(Comparator.comparingDouble(Car::getPrice)).orElseThrow().getId())
+                .isEqualTo(CarOps.getTheHighestPricedCar(cars).orElseThrow().getId());
+        assertThat(sharded.min(Comparator.comparingDouble(Car::getPrice)).orElseThrow().getId())
+                .isEqualTo(CarOps.getTheLowestPricedCar(cars).orElseThrow().getId());
+    }
+
+    @Test
+    void shouldMergeTopKGroupsAndDistinct() {
+        List<Integer> expensive = sharded.topK(5, Comparator.comparingDouble(Car::getPrice)).stream()
+                .map(Car::getId)
+                .toList();
+        List<Integer> expected = CarOps.sortCarByPriceDescending(cars).stream()
+                .limit(5)
+                .map(Car::getId)
+                .toList();
+
+        assertThat(expensive).isEqualTo(expected);
+        assertThat(sharded.countBy(Car::getMake)).isEqualTo(CarOps.countCarsByMake(cars));
+        assertThat(sharded.distinct(Car::getColor)).isEqualTo(new HashSet<>(CarOps.listOfDistinctCarColor(cars)));
+
+        Map<String, RunningStats> byMake = sharded.statsBy(Car::getMake, Car::getPrice);
+        CarOps.averagePriceOfCarsByMake(cars).forEach((make, average) ->
+                assertThat(byMake.get(make).getMean()).isCloseTo(average, within(1e-6)));
+    }
+
+    @Test
+    void shouldRunShardsInWorkerProcesses() throws IOException {
+        Map<String, Long> counts = sharded.queryInWorkers(new ShardTasks.CarCountByMake(), 2, "64m");
+        RunningStats prices = sharded.queryInWorkers(new ShardTasks.CarPriceStats(), 3, "64m");
+
+        assertThat(counts).isEqualTo(CarOps.countCarsByMake(cars));
+        assertThat(prices.getCount()).isEqualTo(cars.size());
+        assertThat(prices.getMax()).isEqualTo(CarOps.getTheHighestPricedCar(cars).orElseThrow().getPrice());
+    }
+
+    @Test
+    void shouldIgnoreWorkerStdout() throws IOException {
+        assertThat(sharded.queryInWorkers(new NoisyCount(), 3, "64m")).isEqualTo(cars.size());
+    }
+
+    @Test
+    void shouldKillRemainingWorkersWhenOneFails() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> sharded.queryInWorkers(new FailsOnFirstShard(), 3, "64m"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("exited with code");
+        assertThat(System.nanoTime() - start).isLessThan(30_000_000_000L);
+        assertThat(ProcessHandle.current().children().filter(ProcessHandle::isAlive)).isEmpty();
+    }
+
+    public static class NoisyCount implements ShardTask<Car, Long> {
+        @Override
+        public Long apply(List<Car> shard) {
+            System.out.println("not JSON {");
+            return (long) shard.size();
+        }
+
+        @Override
+        public Long merge(Long left, Long right) {
+            return left + right;
+        }
+
+        @Override
+        public Long identity() {
+            return 0L;
+        }
+
+        @Override
+        public Type resultType() {
+            return Long.class;
+        }
+    }
+
+    // The shard holding car 1 fails at once; the others would run for a minute.
+    public static class FailsOnFirstShard extends NoisyCount {
+        @Override
+        public Long apply(List<Car> shard) {
+            if (shard.stream().anyMatch(car -> car.getId() == 1)) {
+                throw new IllegalStateException("bad shard");
+            }
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return (long) shard.size();
+        }
+    }
+}
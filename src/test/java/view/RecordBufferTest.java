@@ -0,0 +1,132 @@
+package view;
+
+import challenges.CarOps;
+import challenges.StudentOps;
+import data.DataGenerator;
+import data.FetchData;
+import domain.Car;
+import domain.Student;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RecordBufferTest {
+
+    private static List<Student> students;
+    private static List<Car> cars;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        students = FetchData.getStudentList();
+        cars = FetchData.getCarList();
+    }
+
+    @Test
+    void shouldDecodeStudentFieldsLazily() {
+        StudentBuffer buffer = StudentBuffer.of(students);
+        StudentView view = buffer.view();
+        Student first = students.get(0);
+
+        view.moveTo(0);
+        assertThat(buffer.size()).isEqualTo(students.size());
+        assertThat(view.getId()).isEqualTo(first.getId());
+        assertThat(view.getEmail()).isEqualTo(first.getEmail());
+        assertThat(view.getDob()).isEqualTo(first.getDob());
+        assertThat(view.isGender(RecordBuffer.utf8(first.getGender()))).isTrue();
+        assertThat(view.toStudent().toString()).isEqualTo(first.toString());
+    }
+
+    @Test
+    void shouldMatchListBasedStudentQueries(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("students.svb");
+        StudentBuffer.of(students).write(file);
+        StudentBuffer mapped = StudentBuffer.map(file);
+
+        assertThat(StudentOps.filterStudentsByGender(mapped, "female").stream().map(Student::getId).toList())
+                .isEqualTo(StudentOps.filterStudentsByGender(students, "female").stream().map(Student::getId).toList());
+        assertThat(StudentOps.listEmails(mapped)).isEqualTo(StudentOps.listEmails(students));
+    }
+
+    @Test
+    void shouldMatchListBasedCarQueries(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cars.svb");
+        CarBuffer.of(cars).write(file);
+        CarBuffer mapped = CarBuffer.map(file);
+        CarView view = mapped.view().moveTo(3);
+
+        assertThat(view.getPrice()).isEqualTo(cars.get(3).getPrice());
+        assertThat(view.getYear()).isEqualTo(cars.get(3).getYear());
+        assertThat(CarOps.carWithSpecificMake(mapped).stream().map(Car::toString).toList())
+                .isEqualTo(CarOps.carWithSpecificMake(cars).stream().map(Car::toString).toList());
+        assertThat(CarOps.carsWithBlueColor(mapped)).isEqualTo(CarOps.carsWithBlueColor(cars));
+    }
+
+    @Test
+    void shouldReadAcrossChunkBoundaries(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cars.bin");
+        DataGenerator generator = new DataGenerator(new DataGenerator.Config());
+        generator.writeCars(0, 20_000, DataGenerator.Format.BINARY, file);
+
+        // 4 KB chunks: about 400 of them, so many records and index entries sit on a boundary.
+        CarBuffer chunked = CarBuffer.map(file, 12);
+        CarBuffer whole = CarBuffer.map(file);
+        assertThat(chunked.size()).isEqualTo(20_000);
+        for (int i = 0; i < chunked.size(); i++) {
+            assertThat(chunked.materialize(i)).isEqualTo(whole.materialize(i)).isEqualTo(generator.car(i));
+        }
+
+        Path copy = dir.resolve("copy.bin");
+        chunked.write(copy);
+        assertThat(Files.mismatch(file, copy)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRejectTruncatedFilesAndOversizedRecords(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("students.bin");
+        StudentBuffer.of(students).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThatThrownBy(() -> StudentBuffer.map(file)).isInstanceOf(IOException.class).hasMessageContaining("truncated");
+        Car huge = new Car(1, "x".repeat(70_000), "Model", 2000, 1.0, "Red");
+        assertThatThrownBy(() -> CarBuffer.of(List.of(huge))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPublishWriterOutputOnlyOnCommit(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cars.bin");
+        CarBuffer.of(cars.subList(0, 3)).write(file);
+        byte[] before = Files.readAllBytes(file);
+
+        try (RecordBuffer.Writer out = CarBuffer.writer(file)) {
+            out.append("1", "Nissan", "Rogue", "2008", "1.0", "Green");
+            assertThatThrownBy(() -> out.append("2", "x".repeat(70_000), "Model", "2000", "1.0", "Red"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(Files.readAllBytes(file)).isEqualTo(before);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).containsExactly(file);
+        }
+
+        try (RecordBuffer.Writer out = CarBuffer.writer(file)) {
+            out.append("1", "Nissan", "Rogue", "2008", "1.0", "Green");
+            out.commit();
+            assertThatThrownBy(() -> out.append("2", "Toyota", "Supra", "1994", "2.0", "Red"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(CarBuffer.map(file).materialize(0)).isEqualTo(new Car(1, "Nissan", "Rogue", 2008, 1.0, "Green"));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+}